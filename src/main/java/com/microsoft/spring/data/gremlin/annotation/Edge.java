@@ -23,4 +23,11 @@ public @interface Edge {
      * @return class name if not specify.
      */
     String label() default Constants.DEFAULT_EDGE_LABEL;
+
+    /**
+     * Cache the edge read by findById in the second-level cache of GremlinTemplate, if the cache is enabled.
+     * The cached instance is shared by all the readers on all threads, and should not be modified without save.
+     * @return false if not specify.
+     */
+    boolean cacheable() default false;
 }
@@ -17,4 +17,9 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface EdgeTo {
+    /**
+     * Inject a proxy holding only the vertex id when reading the edge, the vertex is loaded on first access.
+     * @return false if not specify, the vertex is loaded with the edge.
+     */
+    boolean lazy() default false;
 }
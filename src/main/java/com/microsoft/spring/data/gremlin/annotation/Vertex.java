@@ -23,4 +23,11 @@ public @interface Vertex {
      * @return class name if not specify.
      */
     String label() default Constants.DEFAULT_VERTEX_LABEL;
+
+    /**
+     * Cache the vertex read by findById in the second-level cache of GremlinTemplate, if the cache is enabled.
+     * The cached instance is shared by all the readers on all threads, and should not be modified without save.
+     * @return false if not specify.
+     */
+    boolean cacheable() default false;
 }
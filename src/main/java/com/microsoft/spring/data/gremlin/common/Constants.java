@@ -18,6 +18,7 @@ public class Constants {
     public static final String PROPERTY_PROPERTIES = "properties";
     public static final String PROPERTY_INV = "inV";
     public static final String PROPERTY_OUTV = "outV";
+    public static final String PROPERTY_VALUE_NULL = "null";
 
     public static final String RESULT_TYPE_VERTEX = "vertex";
     public static final String RESULT_TYPE_EDGE = "edge";
@@ -31,10 +32,20 @@ public class Constants {
     public static final String GREMLIN_MODULE_NAME = "Gremlin";
     public static final String GREMLIN_MODULE_PREFIX = "gremlin";
     public static final String GREMLIN_MAPPING_CONTEXT = "gremlinMappingContext";
+    public static final String GREMLIN_ENTITY_CACHE_PREFIX = "gremlin:";
 
     public static final String GREMLIN_PRIMITIVE_GRAPH = "g";
     public static final String GREMLIN_PRIMITIVE_INVOKE = ".";
     public static final String GREMLIN_PRIMITIVE_DROP = "drop()";
+    public static final String GREMLIN_PRIMITIVE_COUNT = "count()";
+    public static final String GREMLIN_PRIMITIVE_SIDE_EFFECT_DROP = "sideEffect(drop())";
+    public static final String GREMLIN_PRIMITIVE_FOLD = "fold()";
+    public static final String GREMLIN_PRIMITIVE_ITERATE = "iterate()";
+    public static final String GREMLIN_PRIMITIVE_STRING = "'%s'";
+    public static final String GREMLIN_PRIMITIVE_STATEMENT_SEPARATOR = "; ";
+    public static final String GREMLIN_PRIMITIVE_ARGUMENT_SEPARATOR = ", ";
+    public static final String GREMLIN_PRIMITIVE_COALESCE = "coalesce(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_UNFOLD = "unfold()";
 
     public static final String GREMLIN_PRIMITIVE_EDGE = "E('%s')";
     public static final String GREMLIN_PRIMITIVE_EDGE_ALL = "E()";
@@ -46,12 +57,13 @@ public class Constants {
     public static final String GREMLIN_PRIMITIVE_TO_VERTEX = "to(g.V('%s'))";
 
     public static final String GREMLIN_PRIMITIVE_HAS_STRING = "has('%s', '%s')";
-    public static final String GREMLIN_PRIMITIVE_HAS_NUMBER = "has('%s', %d)";
+    public static final String GREMLIN_PRIMITIVE_HAS_NUMBER = "has('%s', %s)";
     public static final String GREMLIN_PRIMITIVE_HAS_BOOLEAN = "has('%s', %b)";
     public static final String GREMLIN_PRIMITIVE_HAS_KEYWORD = "has(%s, '%s')";
+    public static final String GREMLIN_PRIMITIVE_HAS_GT_KEYWORD = "has(%s, gt('%s'))";
 
     public static final String GREMLIN_PRIMITIVE_PROPERTY_STRING = "property('%s', '%s')";
-    public static final String GREMLIN_PRIMITIVE_PROPERTY_NUMBER = "property('%s', %d)";
+    public static final String GREMLIN_PRIMITIVE_PROPERTY_NUMBER = "property('%s', %s)";
     public static final String GREMLIN_PRIMITIVE_PROPERTY_BOOLEAN = "property('%s', %b)";
     public static final String GREMLIN_PRIMITIVE_PROPERTY_KEYWORD = "property(%s, '%s')";
 
@@ -65,6 +77,44 @@ public class Constants {
     public static final String GREMLIN_PRIMITIVE_LT = "lt(%d)";
     public static final String GREMLIN_PRIMITIVE_BETWEEN = "between(%d, %d)";
 
+    public static final String GREMLIN_PRIMITIVE_VALUE_MAP = "valueMap(true, %s)";
+    public static final String GREMLIN_PRIMITIVE_ORDER = "order()";
+    public static final String GREMLIN_PRIMITIVE_BY = "by('%s', %s)";
+    public static final String GREMLIN_PRIMITIVE_INCR = "incr";
+    public static final String GREMLIN_PRIMITIVE_DECR = "decr";
+
+    public static final String GREMLIN_PRIMITIVE_EDGE_VARIABLE = "E(%s)";
+    public static final String GREMLIN_PRIMITIVE_ADD_EDGE_VARIABLE = "addE(%s)";
+    public static final String GREMLIN_PRIMITIVE_VERTEX_VARIABLE = "V(%s)";
+    public static final String GREMLIN_PRIMITIVE_ADD_VERTEX_VARIABLE = "addV(%s)";
+    public static final String GREMLIN_PRIMITIVE_TO_VERTEX_VARIABLE = "to(g.V(%s))";
+    public static final String GREMLIN_PRIMITIVE_HAS_VARIABLE = "has(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_HAS_GT_VARIABLE = "has(%s, gt(%s))";
+    public static final String GREMLIN_PRIMITIVE_PROPERTY_VARIABLE = "property(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_VALUES_VARIABLE = "values(%s)";
+    public static final String GREMLIN_PRIMITIVE_GT_VARIABLE = "gt(%s)";
+    public static final String GREMLIN_PRIMITIVE_LT_VARIABLE = "lt(%s)";
+    public static final String GREMLIN_PRIMITIVE_BETWEEN_VARIABLE = "between(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_NEQ_VARIABLE = "neq(%s)";
+    public static final String GREMLIN_PRIMITIVE_GTE_VARIABLE = "gte(%s)";
+    public static final String GREMLIN_PRIMITIVE_LTE_VARIABLE = "lte(%s)";
+    public static final String GREMLIN_PRIMITIVE_WITHIN_VARIABLE = "within(%s)";
+    public static final String GREMLIN_PRIMITIVE_WITHOUT_VARIABLE = "without(%s)";
+    public static final String GREMLIN_PRIMITIVE_CONTAINING_VARIABLE = "TextP.containing(%s)";
+    public static final String GREMLIN_PRIMITIVE_HAS_KEY_VARIABLE = "has(%s)";
+    public static final String GREMLIN_PRIMITIVE_HAS_NOT_VARIABLE = "hasNot(%s)";
+    public static final String GREMLIN_PRIMITIVE_BY_VARIABLE = "by(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_RANGE_VARIABLE = "range(%s, %s)";
+    public static final String GREMLIN_PRIMITIVE_LIMIT_VARIABLE = "limit(%s)";
+
+    public static final String GREMLIN_BINDING_VERTEX_ID = "vid";
+    public static final String GREMLIN_BINDING_VERTEX_FROM = "vfrom";
+    public static final String GREMLIN_BINDING_VERTEX_TO = "vto";
+    public static final String GREMLIN_BINDING_EDGE_ID = "eid";
+    public static final String GREMLIN_BINDING_LABEL = "lbl";
+    public static final String GREMLIN_BINDING_KEY_PREFIX = "k";
+    public static final String GREMLIN_BINDING_VALUE_PREFIX = "v";
+
     public static final String GREMLIN_PRIMITIVE_IS_GT = String.format(GREMLIN_PRIMITIVE_IS, GREMLIN_PRIMITIVE_GT);
     public static final String GREMLIN_PRIMITIVE_IS_LT = String.format(GREMLIN_PRIMITIVE_IS, GREMLIN_PRIMITIVE_LT);
     public static final String GREMLIN_PRIMITIVE_IS_BETWEEN = String.format(
@@ -72,6 +122,21 @@ public class Constants {
             GREMLIN_PRIMITIVE_BETWEEN
     );
 
+    public static final String GREMLIN_PRIMITIVE_IS_GT_VARIABLE = String.format(
+            GREMLIN_PRIMITIVE_IS,
+            GREMLIN_PRIMITIVE_GT_VARIABLE
+    );
+
+    public static final String GREMLIN_PRIMITIVE_IS_LT_VARIABLE = String.format(
+            GREMLIN_PRIMITIVE_IS,
+            GREMLIN_PRIMITIVE_LT_VARIABLE
+    );
+
+    public static final String GREMLIN_PRIMITIVE_IS_BETWEEN_VARIABLE = String.format(
+            GREMLIN_PRIMITIVE_IS,
+            GREMLIN_PRIMITIVE_BETWEEN_VARIABLE
+    );
+
     public static final String GREMLIN_SCRIPT_EDGE_ALL = String.join(GREMLIN_PRIMITIVE_INVOKE,
             GREMLIN_PRIMITIVE_GRAPH,
             GREMLIN_PRIMITIVE_EDGE_ALL
@@ -82,6 +147,18 @@ public class Constants {
             GREMLIN_PRIMITIVE_VERTEX_ALL
     );
 
+    public static final String GREMLIN_SCRIPT_EDGE_COUNT = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_EDGE_ALL,
+            GREMLIN_PRIMITIVE_COUNT
+    );
+
+    public static final String GREMLIN_SCRIPT_VERTEX_COUNT = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,
+            GREMLIN_PRIMITIVE_COUNT
+    );
+
     public static final String GREMLIN_SCRIPT_EDGE_DROP_ALL = String.join(GREMLIN_PRIMITIVE_INVOKE,
             GREMLIN_PRIMITIVE_GRAPH,
             GREMLIN_PRIMITIVE_EDGE_ALL,
@@ -8,6 +8,8 @@ package com.microsoft.spring.data.gremlin.common;
 import lombok.*;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,4 +25,86 @@ public class GremlinConfiguration {
     private String password;
 
     private boolean telemetryAllowed = true;
+
+    private boolean sslEnabled = true;
+
+    /**
+     * Send the ids and values of generated scripts as bindings instead of inlining them into script text,
+     * then gremlin server can reuse the compiled script for the same script template.
+     */
+    private boolean scriptBindingsEnabled = false;
+
+    /**
+     * The count of domains in one batch script. Each chunk of domains is upserted in one round trip by saveAll, the
+     * domains of findAllById and deleteAll are fetched or dropped by ids in chunks of the same size, as the vertices
+     * of edges read.
+     */
+    private int batchSize = 100;
+
+    /**
+     * The max count of batch scripts submitted to gremlin server at the same time in saveAll.
+     */
+    private int batchConcurrency = 4;
+
+    /**
+     * The count of domains fetched by one request when streaming, only one chunk of results is held in memory.
+     */
+    private int streamFetchSize = 1000;
+
+    /**
+     * The max count of domains dropped by one request in deleteBy query, which is repeated until no domain is left.
+     * The matched domains are dropped by a single request if not positive.
+     */
+    private int deleteChunkSize = 0;
+
+    /**
+     * Cache the domains of cacheable Vertex or Edge read by findById, the cache is invalidated by the writes through
+     * the templates, but the writes of other clients are not visible until the entry is evicted or expired.
+     */
+    private boolean entityCacheEnabled = false;
+
+    /**
+     * The max count of cached domains of each domain class, the least recently used one is evicted.
+     */
+    private int entityCacheMaxSize = 10000;
+
+    /**
+     * The time to live of cached domain, never expires if zero.
+     */
+    private Duration entityCacheTimeToLive = Duration.ofMinutes(10);
+
+    /**
+     * The name of serializer in gremlin driver Serializers, like GRAPHSON_V2D0 or the binary GRYO_V1D0.
+     * The serializer should be supported by gremlin server, GraphSON 1.0 is used if not specified.
+     */
+    private String serializer;
+
+    /**
+     * The options of connection pool, the default of gremlin driver is used if not specified.
+     */
+    private Integer minConnectionPoolSize;
+
+    private Integer maxConnectionPoolSize;
+
+    private Integer maxInProcessPerConnection;
+
+    private Integer maxSimultaneousUsagePerConnection;
+
+    private Integer maxWaitForConnection;
+
+    private Integer nioPoolSize;
+
+    private Integer workerPoolSize;
+
+    private Integer maxContentLength;
+
+    /**
+     * The milliseconds of idle time before sending keep-alive request, 0 to disable keep-alive.
+     */
+    private Long keepAliveInterval;
+
+    /**
+     * Initialize the connection pool of the shared client at startup, instead of on the first request.
+     */
+    private boolean connectionWarmUpEnabled = false;
 }
@@ -12,39 +12,64 @@ import com.microsoft.spring.data.gremlin.telemetry.TelemetryUtils;
 import lombok.Getter;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
+import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.driver.ser.Serializers;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
-
-public class GremlinFactory {
+/**
+ * Build the cluster of gremlin driver and one shared client of it. The client and cluster are closed together
+ * when the factory is disposed.
+ */
+public class GremlinFactory implements InitializingBean, DisposableBean {
 
     @Getter
     private Cluster gremlinCluster;
-    private String endpoint;
-    private String port;
-    private String username;
-    private String password;
+
+    private Client gremlinClient;
+
+    @Getter
+    private final GremlinConfiguration configuration;
 
     @Autowired(required = false)
     private TelemetryTracker telemetryTracker;
 
     public GremlinFactory(@NonNull String endpoint, @Nullable String port,
                           @NonNull String username, @NonNull String password) {
+        this(createConfiguration(endpoint, port, username, password));
+    }
+
+    public GremlinFactory(@NonNull GremlinConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    private static GremlinConfiguration createConfiguration(@NonNull String endpoint, @Nullable String port,
+                                                            @NonNull String username, @NonNull String password) {
+        final GremlinConfiguration configuration = new GremlinConfiguration();
+
+        configuration.setEndpoint(endpoint);
+        configuration.setPort(port);
+        configuration.setUsername(username);
+        configuration.setPassword(password);
+
+        return configuration;
+    }
+
+    private String getPort() {
+        final String port = this.configuration.getPort();
 
         if (port == null || port.isEmpty()) {
-            this.port = Constants.DEFAULT_ENDPOINT_PORT;
-        } else {
-            this.port = port;
+            return Constants.DEFAULT_ENDPOINT_PORT;
         }
 
-        this.endpoint = endpoint;
-        this.username = username;
-        this.password = password;
+        return port;
     }
 
     private void trackTelemetryCustomEvent() {
@@ -55,18 +80,71 @@ public class GremlinFactory {
         TelemetryUtils.telemetryTriggerEvent(telemetryTracker, getClass().getSimpleName(), customProperties);
     }
 
+    private MessageSerializer getSerializer() {
+        final String serializer = this.configuration.getSerializer();
+
+        if (serializer == null || serializer.isEmpty()) {
+            return Serializers.DEFAULT_RESULT_SERIALIZER;
+        }
+
+        return Serializers.valueOf(serializer.toUpperCase(Locale.ROOT)).simpleInstance();
+    }
+
+    private Cluster.Builder configureConnectionPool(@NonNull Cluster.Builder builder) {
+        final GremlinConfiguration config = this.configuration;
+
+        if (config.getMinConnectionPoolSize() != null) {
+            builder.minConnectionPoolSize(config.getMinConnectionPoolSize());
+        }
+
+        if (config.getMaxConnectionPoolSize() != null) {
+            builder.maxConnectionPoolSize(config.getMaxConnectionPoolSize());
+        }
+
+        if (config.getMaxInProcessPerConnection() != null) {
+            builder.maxInProcessPerConnection(config.getMaxInProcessPerConnection());
+        }
+
+        if (config.getMaxSimultaneousUsagePerConnection() != null) {
+            builder.maxSimultaneousUsagePerConnection(config.getMaxSimultaneousUsagePerConnection());
+        }
+
+        if (config.getMaxWaitForConnection() != null) {
+            builder.maxWaitForConnection(config.getMaxWaitForConnection());
+        }
+
+        if (config.getNioPoolSize() != null) {
+            builder.nioPoolSize(config.getNioPoolSize());
+        }
+
+        if (config.getWorkerPoolSize() != null) {
+            builder.workerPoolSize(config.getWorkerPoolSize());
+        }
+
+        if (config.getMaxContentLength() != null) {
+            builder.maxContentLength(config.getMaxContentLength());
+        }
+
+        if (config.getKeepAliveInterval() != null) {
+            builder.keepAliveInterval(config.getKeepAliveInterval());
+        }
+
+        return builder;
+    }
+
     private Cluster createGremlinCluster() throws GremlinIllegalConfigurationException {
         final int port;
         final Cluster cluster;
 
         try {
-            port = Integer.parseInt(this.port);
-            cluster = Cluster.build(this.endpoint)
-                    .serializer(Serializers.DEFAULT_RESULT_SERIALIZER)
-                    .credentials(this.username, this.password)
-                    .enableSsl(true)
-                    .port(port)
-                    .create();
+            port = Integer.parseInt(this.getPort());
+            final Cluster.Builder builder = Cluster.build(this.configuration.getEndpoint())
+                    .serializer(this.getSerializer())
+                    .credentials(this.configuration.getUsername(), this.configuration.getPassword())
+                    .enableSsl(this.configuration.isSslEnabled())
+                    .port(port);
+
+            cluster = this.configureConnectionPool(builder).create();
         } catch (IllegalArgumentException e) {
             throw new GremlinIllegalConfigurationException("Invalid configuration of Gremlin", e);
         }
@@ -76,12 +154,38 @@ public class GremlinFactory {
         return cluster;
     }
 
-    public Client getGremlinClient() {
-
+    /**
+     * Get the shared client, which is connected to the cluster on first invocation.
+     */
+    public synchronized Client getGremlinClient() {
         if (this.gremlinCluster == null) {
             this.gremlinCluster = this.createGremlinCluster();
         }
 
-        return this.gremlinCluster.connect();
+        if (this.gremlinClient == null) {
+            this.gremlinClient = this.gremlinCluster.connect();
+        }
+
+        return this.gremlinClient;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (this.configuration.isConnectionWarmUpEnabled()) {
+            this.getGremlinClient().init();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (this.gremlinClient != null) {
+            this.gremlinClient.close();
+            this.gremlinClient = null;
+        }
+
+        if (this.gremlinCluster != null) {
+            this.gremlinCluster.close();
+            this.gremlinCluster = null;
+        }
     }
 }
@@ -6,9 +6,11 @@
 package com.microsoft.spring.data.gremlin.common;
 
 import com.microsoft.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.tinkerpop.shaded.jackson.core.JsonProcessingException;
 import org.apache.tinkerpop.shaded.jackson.databind.MapperFeature;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.springframework.data.annotation.Id;
@@ -86,4 +88,34 @@ public class GremlinUtils {
             throw new UnsupportedOperationException("Unsupported object type to long");
         }
     }
+
+    /**
+     * Convert the property value to the one stored in gremlin, and the value of criteria compared with it. The
+     * Number, Boolean and String are stored as they are, the Date is stored as milliseconds, and the other objects
+     * are stored as json string.
+     */
+    public static Object toStoredValue(@NonNull Object object) {
+        if (object instanceof Number || object instanceof Boolean || object instanceof String) {
+            return object;
+        } else if (object instanceof Date) {
+            return timeToMilliSeconds(object);
+        }
+
+        try {
+            return mapper.writeValueAsString(object);
+        } catch (JsonProcessingException e) {
+            throw new GremlinUnexpectedEntityTypeException("Failed to write object to String", e);
+        }
+    }
+
+    /**
+     * Convert the number to the literal inlined into script, the NaN and infinity have no literal.
+     */
+    public static String toNumberLiteral(@NonNull Number number) {
+        if ((number instanceof Double || number instanceof Float) && !Double.isFinite(number.doubleValue())) {
+            throw new UnsupportedOperationException("Unsupported number without literal: " + number);
+        }
+
+        return String.valueOf(number);
+    }
 }
@@ -8,11 +8,18 @@ package com.microsoft.spring.data.gremlin.config;
 import com.microsoft.spring.data.gremlin.common.GremlinConfiguration;
 import com.microsoft.spring.data.gremlin.common.GremlinFactory;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.query.AsyncGremlinTemplate;
+import com.microsoft.spring.data.gremlin.query.GremlinEntityCache;
+import com.microsoft.spring.data.gremlin.query.GremlinLruCacheManager;
 import com.microsoft.spring.data.gremlin.query.GremlinTemplate;
+import com.microsoft.spring.data.gremlin.telemetry.GremlinMetrics;
 import com.microsoft.spring.data.gremlin.telemetry.TelemetryTracker;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 
+import java.util.concurrent.Executor;
+
 public abstract class AbstractGremlinConfiguration extends GremlinConfigurationSupport {
 
     public abstract GremlinConfiguration getGremlinConfiguration();
@@ -25,9 +32,7 @@ public abstract class AbstractGremlinConfiguration extends GremlinConfigurationS
 
     @Bean
     public GremlinFactory gremlinFactory() {
-        final GremlinConfiguration config = getGremlinConfiguration();
-
-        return new GremlinFactory(config.getEndpoint(), config.getPort(), config.getUsername(), config.getPassword());
+        return new GremlinFactory(getGremlinConfiguration());
     }
 
     @Bean
@@ -35,9 +40,46 @@ public abstract class AbstractGremlinConfiguration extends GremlinConfigurationS
         return new MappingGremlinConverter(gremlinMappingContext());
     }
 
+    /**
+     * The CacheManager of the entity cache in GremlinTemplate if entityCacheEnabled, override it to plug in other
+     * CacheManager. The caches are named by the domain classes.
+     */
+    protected CacheManager getEntityCacheManager() {
+        final GremlinConfiguration config = getGremlinConfiguration();
+
+        return new GremlinLruCacheManager(config.getEntityCacheMaxSize(), config.getEntityCacheTimeToLive());
+    }
+
+    /**
+     * The metrics of GremlinTemplate, nothing is recorded by default. Override it to record by Micrometer like
+     * new MicrometerGremlinMetrics(meterRegistry), which requires io.micrometer:micrometer-core in classpath.
+     */
+    protected GremlinMetrics getGremlinMetrics() {
+        return GremlinMetrics.NONE;
+    }
+
     @Bean
     public GremlinTemplate gremlinTemplate(GremlinFactory factory) throws ClassNotFoundException {
-        return new GremlinTemplate(factory, mappingGremlinConverter());
+        final GremlinEntityCache cache = getGremlinConfiguration().isEntityCacheEnabled() ?
+                new GremlinEntityCache(getEntityCacheManager()) : null;
+        final GremlinTemplate template = new GremlinTemplate(factory, mappingGremlinConverter(), cache);
+
+        template.setMetrics(getGremlinMetrics());
+
+        return template;
+    }
+
+    /**
+     * The executor for mapping results to domain in AsyncGremlinTemplate, override it for customized executor. Mapping
+     * Edge domain blocks the executor while querying its vertices.
+     */
+    protected Executor getAsyncMappingExecutor() {
+        return AsyncGremlinTemplate.createMappingExecutor();
+    }
+
+    @Bean
+    public AsyncGremlinTemplate asyncGremlinTemplate(GremlinTemplate template) {
+        return new AsyncGremlinTemplate(template, getAsyncMappingExecutor());
     }
 
 }
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.config;
+
+import com.microsoft.spring.data.gremlin.query.AsyncGremlinTemplate;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinTemplate;
+import org.springframework.context.annotation.Bean;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuration for reactive repositories, which requires reactor-core in the classpath.
+ */
+public abstract class AbstractReactiveGremlinConfiguration extends AbstractGremlinConfiguration {
+
+    /**
+     * The scheduler for iterating results in ReactiveGremlinTemplate, override it for customized scheduler.
+     */
+    protected Scheduler getReactiveScheduler() {
+        return Schedulers.elastic();
+    }
+
+    @Bean
+    public ReactiveGremlinTemplate reactiveGremlinTemplate(AsyncGremlinTemplate template) {
+        return new ReactiveGremlinTemplate(template, getReactiveScheduler());
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion;
+
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptor;
+import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
+import lombok.Getter;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Field;
+
+/**
+ * The compiled mapping of one domain class between the domain and GremlinSource. The properties are looked up once
+ * from the persistent entity, the domain is accessed by the PersistentPropertyAccessor of persistent entity, which
+ * is a generated class from ClassGeneratingPropertyAccessorFactory when supported by the domain class.
+ */
+@Getter
+public final class GremlinEntityMappingPlan {
+
+    private final GremlinPersistentEntity<?> persistentEntity;
+
+    private final GremlinPropertyHandle idHandle;
+
+    @Nullable
+    private final GremlinPropertyHandle edgeFromHandle;
+
+    @Nullable
+    private final GremlinPropertyHandle edgeToHandle;
+
+    /**
+     * The handles of property fields, in the order of {@link GremlinEntityDescriptor#getPropertyFields()}.
+     */
+    private final GremlinPropertyHandle[] valueHandles;
+
+    GremlinEntityMappingPlan(@NonNull GremlinEntityDescriptor descriptor, @NonNull GremlinPersistentEntity<?> entity) {
+        this.persistentEntity = entity;
+        this.idHandle = createHandle(entity, descriptor.getIdField(), GremlinPropertyHandle.Role.ID);
+        this.edgeFromHandle = descriptor.getEdgeFromField() == null ? null :
+                createHandle(entity, descriptor.getEdgeFromField(), GremlinPropertyHandle.Role.EDGE_FROM);
+        this.edgeToHandle = descriptor.getEdgeToField() == null ? null :
+                createHandle(entity, descriptor.getEdgeToField(), GremlinPropertyHandle.Role.EDGE_TO);
+        this.valueHandles = descriptor.getPropertyFields().stream()
+                .map(f -> createHandle(entity, f, GremlinPropertyHandle.getValueRole(f.getType())))
+                .toArray(GremlinPropertyHandle[]::new);
+    }
+
+    private static GremlinPropertyHandle createHandle(@NonNull GremlinPersistentEntity<?> entity, @NonNull Field field,
+                                                      @NonNull GremlinPropertyHandle.Role role) {
+        final PersistentProperty<?> property = entity.getPersistentProperty(field.getName());
+        Assert.notNull(property, "persistence property should not be null");
+
+        return new GremlinPropertyHandle(property, role);
+    }
+
+    public PersistentPropertyAccessor getPropertyAccessor(@NonNull Object domain) {
+        return this.persistentEntity.getPropertyAccessor(domain);
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion;
+
+import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
+import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
+import lombok.Getter;
+import org.apache.tinkerpop.shaded.jackson.databind.JavaType;
+import org.apache.tinkerpop.shaded.jackson.databind.type.TypeFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * One property of {@link GremlinEntityMappingPlan}, the role and the json type of the property are resolved once.
+ */
+@Getter
+public final class GremlinPropertyHandle {
+
+    public enum Role {
+        ID,
+        EDGE_FROM,
+        EDGE_TO,
+        PLAIN,
+        DATE,
+        JSON
+    }
+
+    private final String name;
+
+    private final PersistentProperty<?> property;
+
+    private final Class<?> type;
+
+    private final Role role;
+
+    @Nullable
+    private final JavaType javaType;
+
+    /**
+     * The vertex of EdgeFrom or EdgeTo is injected as {@link LazyVertexProxy} when reading the edge.
+     */
+    private final boolean lazy;
+
+    GremlinPropertyHandle(@NonNull PersistentProperty<?> property, @NonNull Role role) {
+        this.name = property.getName();
+        this.property = property;
+        this.type = property.getType();
+        this.role = role;
+        this.javaType = role == Role.JSON || role == Role.PLAIN ? TypeFactory.defaultInstance().constructType(this.type)
+                : null;
+        this.lazy = isLazy(property, role);
+    }
+
+    private static boolean isLazy(@NonNull PersistentProperty<?> property, @NonNull Role role) {
+        if (role == Role.EDGE_FROM) {
+            final EdgeFrom edgeFrom = property.findAnnotation(EdgeFrom.class);
+
+            return edgeFrom != null && edgeFrom.lazy();
+        } else if (role == Role.EDGE_TO) {
+            final EdgeTo edgeTo = property.findAnnotation(EdgeTo.class);
+
+            return edgeTo != null && edgeTo.lazy();
+        }
+
+        return false;
+    }
+
+    /**
+     * The role of the non id, non edge vertex property, depends on how the value is stored in gremlin. The numbers
+     * are stored natively to be compared by value.
+     */
+    static Role getValueRole(@NonNull Class<?> type) {
+        if (Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(type))
+                || type == Boolean.class || type == boolean.class
+                || type == String.class) {
+            return Role.PLAIN;
+        } else if (type == Date.class) {
+            return Role.DATE;
+        } else {
+            return Role.JSON;
+        }
+    }
+
+    public boolean isValue() {
+        return this.role == Role.PLAIN || this.role == Role.DATE || this.role == Role.JSON;
+    }
+
+    public Object getValue(@NonNull PersistentPropertyAccessor accessor) {
+        return accessor.getProperty(this.property);
+    }
+
+    /**
+     * Set the value to domain, the value is converted by given ConversionService only when it is not assignable.
+     */
+    public void setValue(@NonNull PersistentPropertyAccessor accessor, @Nullable Object value,
+                         @NonNull ConversionService conversionService) {
+        if (value == null || ClassUtils.isAssignableValue(this.type, value)) {
+            accessor.setProperty(this.property, value);
+        } else {
+            accessor.setProperty(this.property, conversionService.convert(value, this.type));
+        }
+    }
+
+    /**
+     * Read the value stored in gremlin to the value of property type. The null number or boolean is stored as json
+     * string, so are the numbers stored before they are stored natively.
+     */
+    public Object readValue(@NonNull Object value) {
+        switch (this.role) {
+            case DATE:
+                Assert.isTrue(value instanceof Long, "Date store value must be instance of long");
+                return new Date((Long) value);
+            case JSON:
+                return this.readJson(value);
+            default:
+                if (this.type != String.class && value instanceof String) {
+                    return this.readJson(value);
+                }
+
+                return value;
+        }
+    }
+
+    private Object readJson(@NonNull Object value) {
+        try {
+            return GremlinUtils.getObjectMapper().readValue(value.toString(), this.javaType);
+        } catch (IOException e) {
+            throw new GremlinUnexpectedEntityTypeException("Failed to read String to Object", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion;
+
+/**
+ * Implemented by the proxy of lazy EdgeFrom or EdgeTo vertex, any other method invoked will load the vertex.
+ */
+public interface LazyVertexProxy {
+
+    /**
+     * The id of proxied vertex, available without loading the vertex.
+     */
+    String getVertexId();
+
+    boolean isResolved();
+
+    /**
+     * Load the vertex if not resolved yet.
+     */
+    Object getTarget();
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion;
+
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.lang.NonNull;
+import org.springframework.objenesis.SpringObjenesis;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Create the subclass proxy of vertex domain for lazy EdgeFrom or EdgeTo. The proxy class is generated once for
+ * each domain class, and the instance is created without invoking the constructor of domain.
+ */
+public final class LazyVertexProxyFactory {
+
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    private static final Map<Class<?>, Class<?>> PROXY_CLASSES = new ConcurrentHashMap<>();
+
+    private LazyVertexProxyFactory() {
+    }
+
+    private static Class<?> createProxyClass(@NonNull Class<?> domainClass) {
+        final Enhancer enhancer = new Enhancer();
+
+        enhancer.setSuperclass(domainClass);
+        enhancer.setInterfaces(new Class<?>[]{LazyVertexProxy.class});
+        enhancer.setCallbackType(LazyVertexInterceptor.class);
+
+        return enhancer.createClass();
+    }
+
+    /**
+     * Create the proxy of vertex with given id, the loader is invoked at most once when the proxy is accessed.
+     */
+    public static <T> T createProxy(@NonNull Class<T> domainClass, @NonNull String vertexId,
+                                    @NonNull Function<String, T> loader) {
+        final Class<?> proxyClass = PROXY_CLASSES.computeIfAbsent(domainClass,
+                LazyVertexProxyFactory::createProxyClass);
+        final Factory proxy = (Factory) OBJENESIS.newInstance(proxyClass);
+
+        proxy.setCallbacks(new Callback[]{new LazyVertexInterceptor<>(vertexId, loader)});
+
+        return domainClass.cast(proxy);
+    }
+
+    private static final class LazyVertexInterceptor<T> implements MethodInterceptor {
+
+        private final String vertexId;
+
+        private final Function<String, T> loader;
+
+        private volatile boolean resolved;
+
+        private T target;
+
+        private LazyVertexInterceptor(@NonNull String vertexId, @NonNull Function<String, T> loader) {
+            this.vertexId = vertexId;
+            this.loader = loader;
+        }
+
+        private synchronized T resolve() {
+            if (!this.resolved) {
+                this.target = this.loader.apply(this.vertexId);
+                this.resolved = true;
+            }
+
+            return this.target;
+        }
+
+        @Override
+        public Object intercept(Object proxy, Method method, Object[] args, MethodProxy methodProxy)
+                throws Throwable {
+            if (method.getDeclaringClass() == LazyVertexProxy.class) {
+                switch (method.getName()) {
+                    case "getVertexId":
+                        return this.vertexId;
+                    case "isResolved":
+                        return this.resolved;
+                    default:
+                        return this.resolve();
+                }
+            } else if ("finalize".equals(method.getName()) && args.length == 0) {
+                return null;
+            }
+
+            final T domain = this.resolve();
+
+            if (domain == null) {
+                throw new GremlinQueryException(String.format("lazy vertex %s doesn't exist", this.vertexId));
+            }
+
+            return methodProxy.invoke(domain, args);
+        }
+    }
+}
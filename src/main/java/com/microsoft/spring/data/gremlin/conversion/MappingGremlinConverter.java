@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.conversion;
 
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptorRegistry;
 import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentProperty;
 import org.springframework.context.ApplicationContext;
@@ -21,6 +22,9 @@ import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class MappingGremlinConverter
         implements EntityConverter<GremlinPersistentEntity<?>, GremlinPersistentProperty, Object, GremlinSource>,
         ApplicationContextAware {
@@ -28,6 +32,7 @@ public class MappingGremlinConverter
     protected final MappingContext<? extends GremlinPersistentEntity<?>, GremlinPersistentProperty> mappingContext;
     protected GenericConversionService conversionService;
     private ApplicationContext applicationContext;
+    private final Map<Class<?>, GremlinEntityMappingPlan> mappingPlans = new ConcurrentHashMap<>();
 
     public MappingGremlinConverter(
             MappingContext<? extends GremlinPersistentEntity<?>, GremlinPersistentProperty> context) {
@@ -78,8 +83,25 @@ public class MappingGremlinConverter
         return mappingContext.getPersistentEntity(domainClass);
     }
 
-    private String getIdFieldName(@NonNull Object domain) {
-        return GremlinUtils.getIdField(domain.getClass()).getName();
+    /**
+     * Get the mapping plan of domain class, which is compiled at the first time and reused by readers and writers.
+     */
+    public GremlinEntityMappingPlan getMappingPlan(@NonNull Class<?> domainClass) {
+        final GremlinEntityMappingPlan plan = this.mappingPlans.get(domainClass);
+
+        if (plan != null) {
+            return plan;
+        }
+
+        return this.mappingPlans.computeIfAbsent(domainClass, this::createMappingPlan);
+    }
+
+    private GremlinEntityMappingPlan createMappingPlan(@NonNull Class<?> domainClass) {
+        final GremlinPersistentEntity<?> persistentEntity = this.getPersistentEntity(domainClass);
+        Assert.notNull(persistentEntity, "persistentEntity should not be null");
+
+        return new GremlinEntityMappingPlan(GremlinEntityDescriptorRegistry.getDescriptor(domainClass),
+                persistentEntity);
     }
 
     public Object getFieldValue(@NonNull Object domain, @NonNull String fieldName) {
@@ -94,8 +116,23 @@ public class MappingGremlinConverter
         return value;
     }
 
+    /**
+     * The id of {@link LazyVertexProxy} is taken from the proxy, without loading the vertex.
+     */
     public Object getIdFieldValue(@NonNull Object domain) {
-        return this.getFieldValue(domain, this.getIdFieldName(domain));
+        if (domain instanceof LazyVertexProxy) {
+            return ((LazyVertexProxy) domain).getVertexId();
+        }
+
+        if (GremlinEntityDescriptorRegistry.isGremlinEntity(domain.getClass())) {
+            final GremlinEntityMappingPlan plan = this.getMappingPlan(domain.getClass());
+            final Object value = plan.getIdHandle().getValue(plan.getPropertyAccessor(domain));
+            Assert.notNull(value, "PersistentProperty should not be null");
+
+            return value;
+        }
+
+        return this.getFieldValue(domain, GremlinUtils.getIdField(domain.getClass()).getName());
     }
 }
 
@@ -8,6 +8,7 @@ package com.microsoft.spring.data.gremlin.conversion.result;
 import com.microsoft.spring.data.gremlin.common.Constants;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import lombok.NoArgsConstructor;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
@@ -42,4 +43,17 @@ public abstract class AbstractGremlinResultReader {
 
         properties.forEach((key, value) -> source.setProperty(key, this.readProperty(value)));
     }
+
+    /**
+     * Read the VertexProperty of typed Vertex directly, and only 1 value is allowed for each property key.
+     */
+    protected void readVertexProperties(@NonNull Vertex vertex, @NonNull GremlinSource source) {
+        Assert.isTrue(source.getProperties().isEmpty(), "should be empty GremlinSource");
+
+        vertex.properties().forEachRemaining(property -> {
+            Assert.isTrue(!source.getProperties().containsKey(property.key()), "should be only 1 value of property");
+
+            source.setProperty(property.key(), property.value());
+        });
+    }
 }
@@ -10,6 +10,7 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
@@ -21,12 +22,19 @@ public class GremlinResultEdgeReader extends AbstractGremlinResultReader impleme
         super();
     }
 
-    @Override
-    public void read(@NonNull Result result, @NonNull GremlinSource source) {
-        if (!(source instanceof GremlinSourceEdge)) {
-            throw new GremlinUnexpectedSourceTypeException("Should be instance of GremlinSourceEdge");
-        }
+    /**
+     * The typed Edge is deserialized by binary serializer like Gryo, or GraphSON with types embedded.
+     */
+    private void readEdge(@NonNull Edge edge, @NonNull GremlinSourceEdge sourceEdge) {
+        sourceEdge.setId(edge.id().toString());
+        sourceEdge.setLabel(edge.label());
+        sourceEdge.setVertexIdFrom(edge.outVertex().id().toString());
+        sourceEdge.setVertexIdTo(edge.inVertex().id().toString());
 
+        edge.properties().forEachRemaining(property -> sourceEdge.setProperty(property.key(), property.value()));
+    }
+
+    private void readMap(@NonNull Result result, @NonNull GremlinSource source) {
         Assert.isInstanceOf(Map.class, result.getObject(), "should be one instance of Map");
         @SuppressWarnings("unchecked") final Map<String, Object> map = (Map<String, Object>) result.getObject();
 
@@ -51,5 +59,17 @@ public class GremlinResultEdgeReader extends AbstractGremlinResultReader impleme
 
         properties.forEach(source::setProperty);
     }
-}
 
+    @Override
+    public void read(@NonNull Result result, @NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("Should be instance of GremlinSourceEdge");
+        }
+
+        if (result.getObject() instanceof Edge) {
+            this.readEdge(result.getEdge(), (GremlinSourceEdge) source);
+        } else {
+            this.readMap(result, source);
+        }
+    }
+}
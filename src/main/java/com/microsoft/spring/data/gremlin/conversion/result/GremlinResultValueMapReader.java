@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion.result;
+
+import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
+import lombok.NoArgsConstructor;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read the result of valueMap(true, keys) of projected query, only the projected properties are in the result.
+ * The id and label are keyed by T token for binary serializers, or by their names for GraphSON.
+ */
+@NoArgsConstructor
+public class GremlinResultValueMapReader implements GremlinResultReader {
+
+    private Object readValue(@NonNull Object value) {
+        if (!(value instanceof List)) {
+            return value;
+        }
+
+        final List<?> values = (List<?>) value;
+
+        Assert.isTrue(values.size() == 1, "should be only 1 value of property");
+
+        return values.get(0);
+    }
+
+    @Override
+    public void read(@NonNull Result result, @NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("Should be instance of GremlinSourceVertex");
+        }
+
+        Assert.isInstanceOf(Map.class, result.getObject(), "should be one instance of Map");
+        final Map<?, ?> map = (Map<?, ?>) result.getObject();
+
+        source.getProperties().clear();
+
+        map.forEach((key, value) -> {
+            final String name = key.toString();
+
+            if (name.equals(Constants.PROPERTY_ID)) {
+                source.setId(value.toString());
+            } else if (name.equals(Constants.PROPERTY_LABEL)) {
+                source.setLabel(value.toString());
+            } else {
+                source.setProperty(name, this.readValue(value));
+            }
+        });
+    }
+}
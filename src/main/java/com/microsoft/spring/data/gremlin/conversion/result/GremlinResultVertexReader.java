@@ -10,6 +10,7 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
@@ -21,12 +22,18 @@ public class GremlinResultVertexReader extends AbstractGremlinResultReader imple
         super();
     }
 
-    @Override
-    public void read(@NonNull Result result, @NonNull GremlinSource source) {
-        if (!(source instanceof GremlinSourceVertex)) {
-            throw new GremlinUnexpectedSourceTypeException("Should be instance of GremlinSourceVertex");
-        }
+    /**
+     * The typed Vertex is deserialized by binary serializer like Gryo, or GraphSON with types embedded.
+     */
+    private void readVertex(@NonNull Vertex vertex, @NonNull GremlinSource source) {
+        source.setId(vertex.id().toString());
+        source.setLabel(vertex.label());
 
+        source.getProperties().clear();
+        super.readVertexProperties(vertex, source);
+    }
+
+    private void readMap(@NonNull Result result, @NonNull GremlinSource source) {
         Assert.isInstanceOf(Map.class, result.getObject(), "should be one instance of Map");
         @SuppressWarnings("unchecked") final Map<String, Object> map = (Map<String, Object>) result.getObject();
 
@@ -46,4 +53,17 @@ public class GremlinResultVertexReader extends AbstractGremlinResultReader imple
         source.getProperties().clear();
         super.readResultProperties(properties, source);
     }
+
+    @Override
+    public void read(@NonNull Result result, @NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("Should be instance of GremlinSourceVertex");
+        }
+
+        if (result.getObject() instanceof Vertex) {
+            this.readVertex(result.getVertex(), source);
+        } else {
+            this.readMap(result, source);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import com.microsoft.spring.data.gremlin.common.GremlinUtils;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import org.apache.tinkerpop.shaded.jackson.core.JsonProcessingException;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -19,26 +20,115 @@ import static com.microsoft.spring.data.gremlin.common.Constants.*;
 
 public abstract class AbstractGremlinScriptLiteral {
 
+    /**
+     * Generate the primitive with value inlined, or with the variable bound to value if bindings is enabled.
+     */
+    private static String generatePrimitive(@NonNull String primitive, @NonNull String variablePrimitive,
+                                            @NonNull String variable, @NonNull Object value,
+                                            @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return String.format(primitive, value);
+        }
+
+        return String.format(variablePrimitive, bindings.bind(variable, value));
+    }
+
+    protected static String generateVertex(@NonNull String variable, @NonNull String id,
+                                           @Nullable GremlinScriptBindings bindings) {
+        return generatePrimitive(GREMLIN_PRIMITIVE_VERTEX, GREMLIN_PRIMITIVE_VERTEX_VARIABLE, variable, id, bindings);
+    }
+
+    protected static String generateEdge(@NonNull String id, @Nullable GremlinScriptBindings bindings) {
+        return generatePrimitive(GREMLIN_PRIMITIVE_EDGE, GREMLIN_PRIMITIVE_EDGE_VARIABLE, GREMLIN_BINDING_EDGE_ID, id,
+                bindings);
+    }
+
+    protected static String generateAddVertex(@NonNull String label, @Nullable GremlinScriptBindings bindings) {
+        return generatePrimitive(GREMLIN_PRIMITIVE_ADD_VERTEX, GREMLIN_PRIMITIVE_ADD_VERTEX_VARIABLE,
+                GREMLIN_BINDING_LABEL, label, bindings);
+    }
+
+    protected static String generateAddEdge(@NonNull String label, @Nullable GremlinScriptBindings bindings) {
+        return generatePrimitive(GREMLIN_PRIMITIVE_ADD_EDGE, GREMLIN_PRIMITIVE_ADD_EDGE_VARIABLE,
+                GREMLIN_BINDING_LABEL, label, bindings);
+    }
+
+    protected static String generateToVertex(@NonNull String id, @Nullable GremlinScriptBindings bindings) {
+        return generatePrimitive(GREMLIN_PRIMITIVE_TO_VERTEX, GREMLIN_PRIMITIVE_TO_VERTEX_VARIABLE,
+                GREMLIN_BINDING_VERTEX_TO, id, bindings);
+    }
+
+    protected static String generatePropertyId(@NonNull String variable, @NonNull String id,
+                                               @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return String.format(GREMLIN_PRIMITIVE_PROPERTY_KEYWORD, PROPERTY_ID, id);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_PROPERTY_VARIABLE, PROPERTY_ID, bindings.bind(variable, id));
+    }
+
+    protected static String generateHasLabel(@NonNull String label, @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return String.format(GREMLIN_PRIMITIVE_HAS_KEYWORD, PROPERTY_LABEL, label);
+        }
+
+        final String variable = bindings.bind(GREMLIN_BINDING_LABEL, label);
+
+        return String.format(GREMLIN_PRIMITIVE_HAS_VARIABLE, PROPERTY_LABEL, variable);
+    }
+
+    /**
+     * Bind the value to the next variable with given prefix, like vid0 and vid1, then statements of one batch script
+     * are able to share the same bindings. Or inline the value as string literal if bindings is disabled.
+     */
+    protected static String generateNextValue(@NonNull String prefix, @NonNull String value,
+                                              @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return String.format(GREMLIN_PRIMITIVE_STRING, value);
+        }
+
+        return bindings.bindNext(prefix, value);
+    }
+
+    /**
+     * Join the statements to one batch script, and complete the shared bindings of them if bindings is enabled.
+     */
+    public static String completeBatchScript(@NonNull List<String> statements,
+                                             @Nullable GremlinScriptBindings bindings) {
+        if (bindings != null) {
+            bindings.complete();
+        }
+
+        return String.join(GREMLIN_PRIMITIVE_STATEMENT_SEPARATOR, statements);
+    }
+
+    /**
+     * Join the steps to one script, and complete the bindings of this script if bindings is enabled.
+     */
+    public static String completeScript(@NonNull List<String> scriptList, @Nullable GremlinScriptBindings bindings) {
+        if (bindings != null) {
+            bindings.complete();
+        }
+
+        return String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList);
+    }
+
     private static String generateProperty(@NonNull String name, @NonNull String value) {
         return String.format(GREMLIN_PRIMITIVE_PROPERTY_STRING, name, value);
     }
 
-    private static String generateProperty(@NonNull String name, @NonNull Integer value) {
-        return String.format(GREMLIN_PRIMITIVE_PROPERTY_NUMBER, name, value);
+    private static String generateProperty(@NonNull String name, @NonNull Number value) {
+        return String.format(GREMLIN_PRIMITIVE_PROPERTY_NUMBER, name, GremlinUtils.toNumberLiteral(value));
     }
 
     private static String generateProperty(@NonNull String name, @NonNull Boolean value) {
         return String.format(GREMLIN_PRIMITIVE_PROPERTY_BOOLEAN, name, value);
     }
 
-    private static String generateProperty(@NonNull String name, @NonNull Long value) {
-        return String.format(GREMLIN_PRIMITIVE_PROPERTY_NUMBER, name, value);
-    }
-
     private static String generateProperty(@NonNull String name, @NonNull Object value) {
 
-        if (value instanceof Integer) {
-            return generateProperty(name, (Integer) value);
+        if (value instanceof Number) {
+            return generateProperty(name, (Number) value);
         } else if (value instanceof Boolean) {
             return generateProperty(name, (Boolean) value);
         } else if (value instanceof String) {
@@ -66,8 +156,23 @@ public abstract class AbstractGremlinScriptLiteral {
         return scripts;
     }
 
-    private static String generateHas(@NonNull String name, @NonNull Integer value) {
-        return String.format(GREMLIN_PRIMITIVE_HAS_NUMBER, name, value);
+    public static List<String> generateProperties(@NonNull final Map<String, Object> properties,
+                                                  @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return generateProperties(properties);
+        }
+
+        final List<String> scripts = new ArrayList<>();
+
+        properties.forEach((name, value) -> scripts.add(String.format(GREMLIN_PRIMITIVE_PROPERTY_VARIABLE,
+                bindings.bindNext(GREMLIN_BINDING_KEY_PREFIX, name),
+                bindings.bindNext(GREMLIN_BINDING_VALUE_PREFIX, GremlinUtils.toStoredValue(value)))));
+
+        return scripts;
+    }
+
+    private static String generateHas(@NonNull String name, @NonNull Number value) {
+        return String.format(GREMLIN_PRIMITIVE_HAS_NUMBER, name, GremlinUtils.toNumberLiteral(value));
     }
 
     private static String generateHas(@NonNull String name, @NonNull Boolean value) {
@@ -78,14 +183,10 @@ public abstract class AbstractGremlinScriptLiteral {
         return String.format(GREMLIN_PRIMITIVE_HAS_STRING, name, value);
     }
 
-    private static String generateHas(@NonNull String name, @NonNull Long value) {
-        return String.format(GREMLIN_PRIMITIVE_HAS_NUMBER, name, value);
-    }
-
     public static String generateHas(@NonNull String name, @NonNull Object value) {
 
-        if (value instanceof Integer) {
-            return generateHas(name, (Integer) value);
+        if (value instanceof Number) {
+            return generateHas(name, (Number) value);
         } else if (value instanceof Boolean) {
             return generateHas(name, (Boolean) value);
         } else if (value instanceof String) {
@@ -104,4 +205,14 @@ public abstract class AbstractGremlinScriptLiteral {
             return hasScript;
         }
     }
+
+    public static String generateHas(@NonNull String name, @NonNull Object value,
+                                     @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return generateHas(name, value);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_HAS_VARIABLE, bindings.bindNext(GREMLIN_BINDING_KEY_PREFIX, name),
+                bindings.bindNext(GREMLIN_BINDING_VALUE_PREFIX, GremlinUtils.toStoredValue(value)));
+    }
 }
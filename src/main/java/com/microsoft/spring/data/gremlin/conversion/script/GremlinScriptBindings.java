@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion.script;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collect the values of generated scripts as bindings, instead of inlining them into the script text.
+ * With constant script text the gremlin server is able to reuse the compiled script from its cache.
+ * The scripts are generated in steps, and each script owns one bindings map in the same order.
+ */
+public class GremlinScriptBindings {
+
+    private final List<Map<String, Object>> bindingsList;
+
+    private Map<String, Object> bindings;
+
+    private final Map<String, Integer> counters;
+
+    public GremlinScriptBindings() {
+        this.bindingsList = new ArrayList<>();
+        this.bindings = new HashMap<>();
+        this.counters = new HashMap<>();
+    }
+
+    /**
+     * Bind the value to given variable name of the script in generating.
+     *
+     * @return the variable name to be used in script
+     */
+    public String bind(@NonNull String name, @NonNull Object value) {
+        Assert.isTrue(!this.bindings.containsKey(name), "variable should be bound only once in one script");
+
+        this.bindings.put(name, value);
+
+        return name;
+    }
+
+    /**
+     * Bind the value to the next variable name with given prefix, like k0, k1 and k2.
+     *
+     * @return the variable name to be used in script
+     */
+    public String bindNext(@NonNull String prefix, @NonNull Object value) {
+        final int index = this.counters.getOrDefault(prefix, 0);
+
+        this.counters.put(prefix, index + 1);
+
+        return this.bind(prefix + index, value);
+    }
+
+    /**
+     * Complete the script in generating, the following bindings belong to the next script.
+     */
+    public void complete() {
+        this.bindingsList.add(Collections.unmodifiableMap(this.bindings));
+        this.bindings = new HashMap<>();
+        this.counters.clear();
+    }
+
+    public Map<String, Object> getBindings(int index) {
+        return this.bindingsList.get(index);
+    }
+
+    public int size() {
+        return this.bindingsList.size();
+    }
+}
@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.conversion.script;
 
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +35,16 @@ public interface GremlinScriptLiteral {
      */
     List<String> generateFindByIdScript(GremlinSource source);
 
+    /**
+     * Generate the findByIds query from source (Vertex, Edge), all the given ids are fetched in one round trip.
+     */
+    List<String> generateFindByIdsScript(GremlinSource source, Collection<String> ids);
+
+    /**
+     * Generate the existsById query from source (Vertex, Edge), counted by limit(1) on server side without reading.
+     */
+    List<String> generateExistsByIdScript(GremlinSource source);
+
     /**
      * Generate the update query from source (Vertex, Edge or Graph).
      */
@@ -49,8 +60,29 @@ public interface GremlinScriptLiteral {
      */
     List<String> generateDeleteByIdScript(GremlinSource source);
 
+    /**
+     * Generate the deleteByIds query from source (Vertex, Edge), all the given ids are dropped in one round trip.
+     */
+    List<String> generateDeleteByIdsScript(GremlinSource source, Collection<String> ids);
+
     /**
      * Generate the Count query from Source (Vertex, Edge)
      */
     List<String> generateCountScript(GremlinSource source);
+
+    /**
+     * Generate the Count By Domain Class query from Source (Vertex, Edge), counted by label on server side.
+     */
+    List<String> generateCountByClassScript(GremlinSource source);
+
+    /**
+     * Generate the upsert query from source (Vertex, Edge), which updates the existing one or inserts the absent one.
+     */
+    List<String> generateUpsertScript(GremlinSource source);
+
+    /**
+     * Generate one upsert query for a batch of sources (Vertex, Edge), which share the same script bindings.
+     * Each source is one statement, the existing one is updated and the absent one is inserted.
+     */
+    List<String> generateBatchUpsertScript(List<GremlinSource> sources);
 }
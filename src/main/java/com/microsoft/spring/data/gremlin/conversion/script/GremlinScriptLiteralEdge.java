@@ -15,6 +15,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,7 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String label = source.getLabel();
         final String id = source.getId();
         final Map<String, Object> properties = source.getProperties();
@@ -46,14 +48,14 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
 
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_VERTEX, vertexIdFrom));
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_ADD_EDGE, label));
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_TO_VERTEX, vertexIdTo));
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_PROPERTY_KEYWORD, Constants.PROPERTY_ID, id));
+        scriptList.add(generateVertex(Constants.GREMLIN_BINDING_VERTEX_FROM, vertexIdFrom, bindings));
+        scriptList.add(generateAddEdge(label, bindings));
+        scriptList.add(generateToVertex(vertexIdTo, bindings));
+        scriptList.add(generatePropertyId(Constants.GREMLIN_BINDING_EDGE_ID, id, bindings));
 
-        scriptList.addAll(generateProperties(properties));
+        scriptList.addAll(generateProperties(properties, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -74,16 +76,17 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String label = source.getLabel();
 
         Assert.notNull(label, "label should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
         scriptList.add(Constants.GREMLIN_PRIMITIVE_EDGE_ALL);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_HAS_KEYWORD, Constants.PROPERTY_LABEL, label));
+        scriptList.add(generateHasLabel(label, bindings));
         scriptList.add(Constants.GREMLIN_PRIMITIVE_DROP);
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -95,14 +98,15 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String id = source.getId();
 
         Assert.notNull(id, "id should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_EDGE, id));
+        scriptList.add(generateEdge(id, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -114,6 +118,7 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String id = source.getId();
         final Map<String, Object> properties = source.getProperties();
 
@@ -121,11 +126,11 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         Assert.notNull(properties, "properties should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_EDGE, id));
+        scriptList.add(generateEdge(id, bindings));
 
-        scriptList.addAll(generateProperties(properties));
+        scriptList.addAll(generateProperties(properties, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -134,14 +139,15 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
         final String label = source.getLabel();
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
 
         Assert.notNull(label, "label should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
         scriptList.add(Constants.GREMLIN_PRIMITIVE_EDGE_ALL);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_HAS_KEYWORD, Constants.PROPERTY_LABEL, label));
+        scriptList.add(generateHasLabel(label, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -153,15 +159,83 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String id = source.getId();
 
         Assert.notNull(id, "id should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_EDGE, id));
+        scriptList.add(generateEdge(id, bindings));
         scriptList.add(Constants.GREMLIN_PRIMITIVE_DROP);
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    private List<String> generateEdges(@NonNull GremlinSource source, @NonNull Collection<String> ids) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        Assert.notEmpty(ids, "ids should not be empty");
+
+        final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final List<String> edgeIds = new ArrayList<>();
+
+        ids.forEach(id -> edgeIds.add(generateNextValue(Constants.GREMLIN_BINDING_EDGE_ID, id, bindings)));
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_EDGE_VARIABLE,
+                String.join(Constants.GREMLIN_PRIMITIVE_ARGUMENT_SEPARATOR, edgeIds)));
+
+        return scriptList;
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final String id = source.getId();
+
+        Assert.notNull(id, "id should not be null");
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(generateEdge(id, bindings));
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_LIMIT_VARIABLE, 1));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_COUNT);
+
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    /**
+     * Generate the query of edges with given ids in one round trip, like g.E('1', '2').
+     */
+    @Override
+    public List<String> generateFindByIdsScript(@NonNull GremlinSource source, @NonNull Collection<String> ids) {
+        final List<String> scriptList = this.generateEdges(source, ids);
+        final String query = completeScript(scriptList, source.getScriptBindings());
+
+        return Collections.singletonList(query);
+    }
+
+    /**
+     * Generate the drop of edges with given ids in one round trip, like g.E('1', '2').drop().
+     */
+    @Override
+    public List<String> generateDeleteByIdsScript(@NonNull GremlinSource source, @NonNull Collection<String> ids) {
+        final List<String> scriptList = this.generateEdges(source, ids);
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_DROP);
+
+        final String query = completeScript(scriptList, source.getScriptBindings());
 
         return Collections.singletonList(query);
     }
@@ -172,7 +246,101 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
-        return Collections.singletonList(Constants.GREMLIN_SCRIPT_EDGE_ALL);
+        return Collections.singletonList(Constants.GREMLIN_SCRIPT_EDGE_COUNT);
     }
-}
 
+    @Override
+    public List<String> generateCountByClassScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final String label = source.getLabel();
+
+        Assert.notNull(label, "label should not be null");
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_EDGE_ALL);
+        scriptList.add(generateHasLabel(label, bindings));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_COUNT);
+
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    private List<String> generateUpsertSteps(@NonNull GremlinSource source, @Nullable GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+        final String label = source.getLabel();
+        final String id = source.getId();
+        final Map<String, Object> properties = source.getProperties();
+
+        Assert.notNull(label, "label should not be null");
+        Assert.notNull(id, "id should not be null");
+        Assert.notNull(properties, "properties should not be null");
+
+        final GremlinSourceEdge sourceEdge = (GremlinSourceEdge) source;
+
+        Assert.notNull(sourceEdge.getVertexIdFrom(), "vertexIdFrom should not be null");
+        Assert.notNull(sourceEdge.getVertexIdTo(), "vertexIdTo should not be null");
+
+        final String vertexIdFrom = generateNextValue(Constants.GREMLIN_BINDING_VERTEX_FROM,
+                sourceEdge.getVertexIdFrom(), bindings);
+        final String vertexIdTo = generateNextValue(Constants.GREMLIN_BINDING_VERTEX_TO,
+                sourceEdge.getVertexIdTo(), bindings);
+        final String edgeId = generateNextValue(Constants.GREMLIN_BINDING_EDGE_ID, id, bindings);
+        final String edgeLabel = generateNextValue(Constants.GREMLIN_BINDING_LABEL, label, bindings);
+        final String addEdge = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, Constants.GREMLIN_PRIMITIVE_GRAPH,
+                String.format(Constants.GREMLIN_PRIMITIVE_VERTEX_VARIABLE, vertexIdFrom),
+                String.format(Constants.GREMLIN_PRIMITIVE_ADD_EDGE_VARIABLE, edgeLabel),
+                String.format(Constants.GREMLIN_PRIMITIVE_TO_VERTEX_VARIABLE, vertexIdTo),
+                String.format(Constants.GREMLIN_PRIMITIVE_PROPERTY_VARIABLE, Constants.PROPERTY_ID, edgeId));
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_EDGE_VARIABLE, edgeId));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_FOLD);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_COALESCE, Constants.GREMLIN_PRIMITIVE_UNFOLD,
+                addEdge));
+
+        scriptList.addAll(generateProperties(properties, bindings));
+
+        return scriptList;
+    }
+
+    /**
+     * The edge is looked up by id and folded, then unfolded if exists or added from vertexFrom to vertexTo with the
+     * id and label. The script returns nothing if either vertex is absent.
+     */
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final String query = completeScript(this.generateUpsertSteps(source, bindings), bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    @Override
+    public List<String> generateBatchUpsertScript(@NonNull List<GremlinSource> sources) {
+        Assert.notEmpty(sources, "sources should not be empty");
+
+        final GremlinScriptBindings bindings = sources.get(0).getScriptBindings();
+        final List<String> statements = new ArrayList<>();
+
+        sources.forEach(source -> {
+            Assert.isTrue(source.getScriptBindings() == bindings, "sources should share the same bindings");
+
+            final List<String> steps = this.generateUpsertSteps(source, bindings);
+
+            steps.add(Constants.GREMLIN_PRIMITIVE_ITERATE);
+            statements.add(String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, steps));
+        });
+
+        return Collections.singletonList(completeBatchScript(statements, bindings));
+    }
+}
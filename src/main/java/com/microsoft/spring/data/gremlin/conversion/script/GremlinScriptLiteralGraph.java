@@ -15,12 +15,23 @@ import org.springframework.lang.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 @NoArgsConstructor
 public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
 
+    /**
+     * The scripts of vertex and edge in graph are bound in steps to the bindings of graph.
+     */
+    private void shareScriptBindings(@NonNull GremlinSourceGraph sourceGraph) {
+        final GremlinScriptBindings bindings = sourceGraph.getScriptBindings();
+
+        sourceGraph.getVertexSet().forEach(vertex -> vertex.setScriptBindings(bindings));
+        sourceGraph.getEdgeSet().forEach(edge -> edge.setScriptBindings(bindings));
+    }
+
     @Override
     public List<String> generateInsertScript(@NonNull GremlinSource source) {
         if (!(source instanceof GremlinSourceGraph)) {
@@ -32,6 +43,8 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         final GremlinScriptLiteralVertex scriptVertex = new GremlinScriptLiteralVertex();
         final GremlinScriptLiteralEdge scriptEdge = new GremlinScriptLiteralEdge();
 
+        this.shareScriptBindings(sourceGraph);
+
         sourceGraph.getVertexSet().forEach(vertex -> scriptList.addAll(scriptVertex.generateInsertScript(vertex)));
         sourceGraph.getEdgeSet().forEach(edge -> scriptList.addAll(scriptEdge.generateInsertScript(edge)));
 
@@ -57,6 +70,16 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         throw new UnsupportedOperationException("Gremlin graph cannot findById by single query.");
     }
 
+    @Override
+    public List<String> generateFindByIdsScript(@Nullable GremlinSource source, @Nullable Collection<String> ids) {
+        throw new UnsupportedOperationException("Gremlin graph cannot findByIds by single query.");
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@Nullable GremlinSource source) {
+        throw new UnsupportedOperationException("Gremlin graph cannot existsById by single query.");
+    }
+
     @Override
     public List<String> generateUpdateScript(@NonNull GremlinSource source) {
         if (!(source instanceof GremlinSourceGraph)) {
@@ -68,6 +91,8 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         final GremlinScriptLiteralVertex scriptVertex = new GremlinScriptLiteralVertex();
         final GremlinScriptLiteralEdge scriptEdge = new GremlinScriptLiteralEdge();
 
+        this.shareScriptBindings(sourceGraph);
+
         sourceGraph.getVertexSet().forEach(vertex -> scriptList.addAll(scriptVertex.generateUpdateScript(vertex)));
         sourceGraph.getEdgeSet().forEach(edge -> scriptList.addAll(scriptEdge.generateUpdateScript(edge)));
 
@@ -83,16 +108,26 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         return this.generateDeleteAllScript(source);
     }
 
+    @Override
+    public List<String> generateDeleteByIdsScript(@Nullable GremlinSource source, @Nullable Collection<String> ids) {
+        throw new UnsupportedOperationException("Gremlin graph cannot deleteByIds by single query.");
+    }
+
     @Override
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
         throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
     }
 
+    /**
+     * Generate the query counting at most one vertex, like g.V().limit(1).count(), the graph is empty if it is 0.
+     */
     public List<String> generateIsEmptyScript(@NonNull GremlinSource source) {
         final List<String> scriptList = new ArrayList<>();
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
         scriptList.add(Constants.GREMLIN_PRIMITIVE_VERTEX_ALL);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_LIMIT_VARIABLE, 1));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_COUNT);
 
         final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
 
@@ -103,4 +138,19 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
     public List<String> generateCountScript(@NonNull GremlinSource source) {
         throw new UnsupportedOperationException("Gremlin graph counting is not available.");
     }
+
+    @Override
+    public List<String> generateCountByClassScript(@NonNull GremlinSource source) {
+        throw new UnsupportedOperationException("Gremlin graph counting is not available.");
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        throw new UnsupportedOperationException("Gremlin graph cannot be upserted by single query.");
+    }
+
+    @Override
+    public List<String> generateBatchUpsertScript(@NonNull List<GremlinSource> sources) {
+        throw new UnsupportedOperationException("Gremlin graph cannot be upserted in batch.");
+    }
 }
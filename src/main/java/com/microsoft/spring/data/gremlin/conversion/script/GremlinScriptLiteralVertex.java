@@ -11,9 +11,11 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import lombok.NoArgsConstructor;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,7 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String label = source.getLabel();
         final String id = source.getId();
         final Map<String, Object> properties = source.getProperties();
@@ -37,12 +40,12 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         Assert.notNull(properties, "properties should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_ADD_VERTEX, label));
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_PROPERTY_KEYWORD, Constants.PROPERTY_ID, id));
+        scriptList.add(generateAddVertex(label, bindings));
+        scriptList.add(generatePropertyId(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings));
 
-        scriptList.addAll(generateProperties(properties));
+        scriptList.addAll(generateProperties(properties, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -63,16 +66,17 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String label = source.getLabel();
 
         Assert.notNull(label, "label should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
         scriptList.add(Constants.GREMLIN_PRIMITIVE_VERTEX_ALL);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_HAS_KEYWORD, Constants.PROPERTY_LABEL, label));
+        scriptList.add(generateHasLabel(label, bindings));
         scriptList.add(Constants.GREMLIN_PRIMITIVE_DROP);
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -84,14 +88,68 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String id = source.getId();
 
         Assert.notNull(id, "id should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_VERTEX, id));
+        scriptList.add(generateVertex(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    private List<String> generateVertices(@NonNull GremlinSource source, @NonNull Collection<String> ids) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        Assert.notEmpty(ids, "ids should not be empty");
+
+        final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final List<String> vertexIds = new ArrayList<>();
+
+        ids.forEach(id -> vertexIds.add(generateNextValue(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings)));
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_VERTEX_VARIABLE,
+                String.join(Constants.GREMLIN_PRIMITIVE_ARGUMENT_SEPARATOR, vertexIds)));
+
+        return scriptList;
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final String id = source.getId();
+
+        Assert.notNull(id, "id should not be null");
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(generateVertex(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings));
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_LIMIT_VARIABLE, 1));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_COUNT);
+
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    /**
+     * Generate the query of vertices with given ids in one round trip, like g.V('1', '2').
+     */
+    @Override
+    public List<String> generateFindByIdsScript(@NonNull GremlinSource source, @NonNull Collection<String> ids) {
+        final List<String> scriptList = this.generateVertices(source, ids);
+        final String query = completeScript(scriptList, source.getScriptBindings());
 
         return Collections.singletonList(query);
     }
@@ -103,6 +161,7 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String id = source.getId();
         final Map<String, Object> properties = source.getProperties();
 
@@ -110,11 +169,11 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         Assert.notNull(properties, "properties should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_VERTEX, id));
+        scriptList.add(generateVertex(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings));
 
-        scriptList.addAll(generateProperties(properties));
+        scriptList.addAll(generateProperties(properties, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -123,14 +182,15 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
         final String label = source.getLabel();
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
 
         Assert.notNull(label, "label should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
         scriptList.add(Constants.GREMLIN_PRIMITIVE_VERTEX_ALL);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_HAS_KEYWORD, Constants.PROPERTY_LABEL, label));
+        scriptList.add(generateHasLabel(label, bindings));
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
 
         return Collections.singletonList(query);
     }
@@ -142,15 +202,30 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         }
 
         final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
         final String id = source.getId();
 
         Assert.notNull(id, "id should not be null");
 
         scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
-        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_VERTEX, id));
+        scriptList.add(generateVertex(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings));
         scriptList.add(Constants.GREMLIN_PRIMITIVE_DROP);
 
-        final String query = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList);
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    /**
+     * Generate the drop of vertices with given ids in one round trip, like g.V('1', '2').drop().
+     */
+    @Override
+    public List<String> generateDeleteByIdsScript(@NonNull GremlinSource source, @NonNull Collection<String> ids) {
+        final List<String> scriptList = this.generateVertices(source, ids);
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_DROP);
+
+        final String query = completeScript(scriptList, source.getScriptBindings());
 
         return Collections.singletonList(query);
     }
@@ -161,7 +236,89 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
-        return Collections.singletonList(Constants.GREMLIN_SCRIPT_VERTEX_ALL);
+        return Collections.singletonList(Constants.GREMLIN_SCRIPT_VERTEX_COUNT);
     }
-}
 
+    @Override
+    public List<String> generateCountByClassScript(@NonNull GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final String label = source.getLabel();
+
+        Assert.notNull(label, "label should not be null");
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_VERTEX_ALL);
+        scriptList.add(generateHasLabel(label, bindings));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_COUNT);
+
+        final String query = completeScript(scriptList, bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    private List<String> generateUpsertSteps(@NonNull GremlinSource source, @Nullable GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+        final String label = source.getLabel();
+        final String id = source.getId();
+        final Map<String, Object> properties = source.getProperties();
+
+        Assert.notNull(label, "label should not be null");
+        Assert.notNull(id, "id should not be null");
+        Assert.notNull(properties, "properties should not be null");
+
+        final String vertexId = generateNextValue(Constants.GREMLIN_BINDING_VERTEX_ID, id, bindings);
+        final String vertexLabel = generateNextValue(Constants.GREMLIN_BINDING_LABEL, label, bindings);
+        final String addVertex = String.join(Constants.GREMLIN_PRIMITIVE_INVOKE,
+                String.format(Constants.GREMLIN_PRIMITIVE_ADD_VERTEX_VARIABLE, vertexLabel),
+                String.format(Constants.GREMLIN_PRIMITIVE_PROPERTY_VARIABLE, Constants.PROPERTY_ID, vertexId));
+
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_GRAPH);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_VERTEX_VARIABLE, vertexId));
+        scriptList.add(Constants.GREMLIN_PRIMITIVE_FOLD);
+        scriptList.add(String.format(Constants.GREMLIN_PRIMITIVE_COALESCE, Constants.GREMLIN_PRIMITIVE_UNFOLD,
+                addVertex));
+
+        scriptList.addAll(generateProperties(properties, bindings));
+
+        return scriptList;
+    }
+
+    /**
+     * The vertex is looked up by id and folded, then unfolded if exists or added with the id and label.
+     */
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        final GremlinScriptBindings bindings = source.getScriptBindings();
+        final String query = completeScript(this.generateUpsertSteps(source, bindings), bindings);
+
+        return Collections.singletonList(query);
+    }
+
+    @Override
+    public List<String> generateBatchUpsertScript(@NonNull List<GremlinSource> sources) {
+        Assert.notEmpty(sources, "sources should not be empty");
+
+        final GremlinScriptBindings bindings = sources.get(0).getScriptBindings();
+        final List<String> statements = new ArrayList<>();
+
+        sources.forEach(source -> {
+            Assert.isTrue(source.getScriptBindings() == bindings, "sources should share the same bindings");
+
+            final List<String> steps = this.generateUpsertSteps(source, bindings);
+
+            steps.add(Constants.GREMLIN_PRIMITIVE_ITERATE);
+            statements.add(String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, steps));
+        });
+
+        return Collections.singletonList(completeBatchScript(statements, bindings));
+    }
+}
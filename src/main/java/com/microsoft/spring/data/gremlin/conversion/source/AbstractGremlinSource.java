@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.conversion.source;
 
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.conversion.result.GremlinResultReader;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -37,6 +38,10 @@ public abstract class AbstractGremlinSource implements GremlinSource {
     @Setter
     private Map<String, Object> properties;
 
+    @Getter
+    @Setter
+    private GremlinScriptBindings scriptBindings;
+
     @Setter(AccessLevel.PRIVATE)
     private GremlinScriptLiteral scriptLiteral;
 
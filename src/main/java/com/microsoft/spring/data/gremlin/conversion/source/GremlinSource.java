@@ -6,6 +6,7 @@
 package com.microsoft.spring.data.gremlin.conversion.source;
 
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
 import com.microsoft.spring.data.gremlin.conversion.result.GremlinResultReader;
 import org.apache.tinkerpop.gremlin.driver.Result;
@@ -102,4 +103,16 @@ public interface GremlinSource {
      * Set the SourceReader for reading data from GremlinSource to domain
      */
     void setGremlinSourceReader(GremlinSourceReader reader);
+
+    /**
+     * Set the script bindings of GremlinSource, null means the values are inlined into script
+     */
+    void setScriptBindings(GremlinScriptBindings bindings);
+
+    /**
+     * Get the script bindings of GremlinSource
+     *
+     * @return null if the values are inlined into script
+     */
+    GremlinScriptBindings getScriptBindings();
 }
@@ -5,23 +5,14 @@
  */
 package com.microsoft.spring.data.gremlin.conversion.source;
 
-import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
-import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.GremlinEntityMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinPropertyHandle;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.reflect.FieldUtils;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.lang.NonNull;
-import org.springframework.util.Assert;
-
-import java.lang.reflect.Field;
-
-import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_ID;
 
 @NoArgsConstructor
 public class GremlinSourceEdgeReader implements GremlinSourceReader {
@@ -34,25 +25,17 @@ public class GremlinSourceEdgeReader implements GremlinSourceReader {
        }
 
        final T domain = GremlinUtils.createInstance(type);
-       final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
-       final GremlinPersistentEntity persistentEntity = converter.getPersistentEntity(type);
-
-       for (final Field field : FieldUtils.getAllFields(type)) {
-           final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
-           Assert.notNull(property, "persistence property should not be null");
+       final GremlinEntityMappingPlan plan = converter.getMappingPlan(type);
+       final PersistentPropertyAccessor accessor = plan.getPropertyAccessor(domain);
 
-           if (field.getName().equals(PROPERTY_ID) || field.getAnnotation(Id.class) != null) {
-               accessor.setProperty(property, source.getId());
-               continue;
-           } else if (field.getAnnotation(EdgeFrom.class) != null || field.getAnnotation(EdgeTo.class) != null) {
-               // We cannot do that here as the gremlin will not tell more information about vertex except Id. After the
-               // query of Edge end, we can get the Id of vertex from/to. And then we will do extra 2 query to obtain
-               // the 2 vertex and complete the edge.
-               // That work will be wrapped in GremlinTemplate insert, and skip the property here.
-               continue;
-           }
+       plan.getIdHandle().setValue(accessor, source.getId(), converter.getConversionService());
 
-           accessor.setProperty(property, source.getProperties().get(field.getName()));
+       // The EdgeFrom and EdgeTo are not value handles, as the gremlin will not tell more information about vertex
+       // except Id. After the query of Edge end, we can get the Id of vertex from/to. And then we will do extra 2
+       // query to obtain the 2 vertex and complete the edge.
+       // That work will be wrapped in GremlinTemplate insert, and skip the property here.
+       for (final GremlinPropertyHandle handle : plan.getValueHandles()) {
+           handle.setValue(accessor, source.getProperties().get(handle.getName()), converter.getConversionService());
        }
 
        return domain;
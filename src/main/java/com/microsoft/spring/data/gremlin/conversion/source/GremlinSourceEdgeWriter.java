@@ -5,23 +5,16 @@
  */
 package com.microsoft.spring.data.gremlin.conversion.source;
 
-import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
-import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
-import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.conversion.GremlinEntityMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinPropertyHandle;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.reflect.FieldUtils;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
-import java.lang.reflect.Field;
-
 @NoArgsConstructor
 public class GremlinSourceEdgeWriter implements GremlinSourceWriter {
 
@@ -42,28 +35,24 @@ public class GremlinSourceEdgeWriter implements GremlinSourceWriter {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
-        source.setId(converter.getFieldValue(domain, source.getIdField().getName()).toString());
-
         final GremlinSourceEdge sourceEdge = (GremlinSourceEdge) source;
-        final GremlinPersistentEntity<?> persistentEntity = converter.getPersistentEntity(domain.getClass());
-        final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
+        final GremlinEntityMappingPlan plan = converter.getMappingPlan(domain.getClass());
+        final PersistentPropertyAccessor accessor = plan.getPropertyAccessor(domain);
+        final Object id = plan.getIdHandle().getValue(accessor);
+
+        Assert.notNull(id, "PersistentProperty should not be null");
+        source.setId(id.toString());
 
-        for (final Field field : FieldUtils.getAllFields(domain.getClass())) {
-            final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
-            Assert.notNull(property, "persistence property should not be null");
+        if (plan.getEdgeFromHandle() != null) {
+            sourceEdge.setVertexIdFrom(this.getIdValue(plan.getEdgeFromHandle().getValue(accessor), converter));
+        }
 
-            final Object object = accessor.getProperty(property);
+        if (plan.getEdgeToHandle() != null) {
+            sourceEdge.setVertexIdTo(this.getIdValue(plan.getEdgeToHandle().getValue(accessor), converter));
+        }
 
-            if (field.getName().equals(Constants.PROPERTY_ID) || field.getAnnotation(Id.class) != null) {
-                continue;
-            } else if (field.getAnnotation(EdgeFrom.class) != null) {
-                sourceEdge.setVertexIdFrom(this.getIdValue(object, converter));
-            } else if (field.getAnnotation(EdgeTo.class) != null) {
-                sourceEdge.setVertexIdTo(this.getIdValue(object, converter));
-            } else if (!field.getName().equals(Constants.PROPERTY_ID)) {
-                source.setProperty(field.getName(), accessor.getProperty(property));
-            }
+        for (final GremlinPropertyHandle handle : plan.getValueHandles()) {
+            source.setProperty(handle.getName(), handle.getValue(accessor));
         }
     }
 }
-
@@ -7,14 +7,12 @@ package com.microsoft.spring.data.gremlin.conversion.source;
 
 import com.microsoft.spring.data.gremlin.annotation.EdgeSet;
 import com.microsoft.spring.data.gremlin.annotation.VertexSet;
-import com.microsoft.spring.data.gremlin.common.Constants;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptorRegistry;
 import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.reflect.FieldUtils;
-import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
@@ -49,14 +47,10 @@ public class GremlinSourceGraphWriter implements GremlinSourceWriter {
         final GremlinPersistentEntity<?> persistentEntity = converter.getPersistentEntity(domain.getClass());
         final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
 
-        for (final Field field : FieldUtils.getAllFields(domain.getClass())) {
+        for (final Field field : GremlinEntityDescriptorRegistry.getDescriptor(domain.getClass()).getPropertyFields()) {
             final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
             Assert.notNull(property, "persistence property should not be null");
 
-            if (field.getName().equals(Constants.PROPERTY_ID) || field.getAnnotation(Id.class) != null) {
-                continue;
-            }
-
             @SuppressWarnings("unchecked") final List<Object> objects = (List<Object>) accessor.getProperty(property);
 
             if (field.getAnnotation(VertexSet.class) != null || field.getAnnotation(EdgeSet.class) != null) {
@@ -5,23 +5,28 @@
  */
 package com.microsoft.spring.data.gremlin.conversion.source;
 
-import com.microsoft.spring.data.gremlin.common.Constants;
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.GremlinEntityMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinPropertyHandle;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
-import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.reflect.FieldUtils;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.lang.NonNull;
-import org.springframework.util.Assert;
 
-import java.lang.reflect.Field;
+public class GremlinSourceVertexReader implements GremlinSourceReader {
 
-@NoArgsConstructor
-public class GremlinSourceVertexReader extends AbstractGremlinSourceReader implements GremlinSourceReader {
+    /**
+     * If the source is read from the valueMap of projected keys, the properties not fetched are left unset.
+     */
+    private final boolean projected;
+
+    public GremlinSourceVertexReader() {
+        this(false);
+    }
+
+    public GremlinSourceVertexReader(boolean projected) {
+        this.projected = projected;
+    }
 
     @Override
     public <T extends Object> T read(@NonNull Class<T> type, @NonNull MappingGremlinConverter converter,
@@ -31,22 +36,20 @@ public class GremlinSourceVertexReader extends AbstractGremlinSourceReader imple
         }
 
         final T domain = GremlinUtils.createInstance(type);
-        final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
-        final GremlinPersistentEntity persistentEntity = converter.getPersistentEntity(type);
-
-        for (final Field field : FieldUtils.getAllFields(type)) {
-            final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
-            Assert.notNull(property, "persistence property should not be null");
-
-            if (field.getName().equals(Constants.PROPERTY_ID) || field.getAnnotation(Id.class) != null) {
-                accessor.setProperty(property, source.getId());
-            } else {
-                final Object value = super.readProperty(property, source.getProperties().get(field.getName()));
-                accessor.setProperty(property, value);
+        final GremlinEntityMappingPlan plan = converter.getMappingPlan(type);
+        final PersistentPropertyAccessor accessor = plan.getPropertyAccessor(domain);
+
+        plan.getIdHandle().setValue(accessor, source.getId(), converter.getConversionService());
+
+        for (final GremlinPropertyHandle handle : plan.getValueHandles()) {
+            if (this.projected && !source.getProperties().containsKey(handle.getName())) {
+                continue; // Not fetched by projection.
             }
+
+            final Object value = handle.readValue(source.getProperties().get(handle.getName()));
+            handle.setValue(accessor, value, converter.getConversionService());
         }
 
         return domain;
     }
 }
-
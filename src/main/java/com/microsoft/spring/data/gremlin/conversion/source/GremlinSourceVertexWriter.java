@@ -5,20 +5,15 @@
  */
 package com.microsoft.spring.data.gremlin.conversion.source;
 
-import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.conversion.GremlinEntityMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinPropertyHandle;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import lombok.NoArgsConstructor;
-import org.apache.commons.lang3.reflect.FieldUtils;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
-import java.lang.reflect.Field;
-
 @NoArgsConstructor
 public class GremlinSourceVertexWriter implements GremlinSourceWriter {
 
@@ -29,21 +24,15 @@ public class GremlinSourceVertexWriter implements GremlinSourceWriter {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
-        source.setId(converter.getFieldValue(domain, source.getIdField().getName()).toString());
-
-        final GremlinPersistentEntity<?> persistentEntity = converter.getPersistentEntity(domain.getClass());
-        final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
+        final GremlinEntityMappingPlan plan = converter.getMappingPlan(domain.getClass());
+        final PersistentPropertyAccessor accessor = plan.getPropertyAccessor(domain);
+        final Object id = plan.getIdHandle().getValue(accessor);
 
-        for (final Field field : FieldUtils.getAllFields(domain.getClass())) {
-            final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
-            Assert.notNull(property, "persistence property should not be null");
+        Assert.notNull(id, "PersistentProperty should not be null");
+        source.setId(id.toString());
 
-            if (field.getName().equals(Constants.PROPERTY_ID) || field.getAnnotation(Id.class) != null) {
-                continue;
-            }
-
-            source.setProperty(field.getName(), accessor.getProperty(property));
+        for (final GremlinPropertyHandle handle : plan.getValueHandles()) {
+            source.setProperty(handle.getName(), handle.getValue(accessor));
         }
     }
 }
-
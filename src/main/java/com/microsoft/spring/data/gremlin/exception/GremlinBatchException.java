@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when some chunks of a batch write failed, the other chunks are written to gremlin server already.
+ */
+public class GremlinBatchException extends GremlinQueryException {
+
+    @Getter
+    private final List<ChunkFailure> failures;
+
+    public GremlinBatchException(String msg, List<ChunkFailure> failures) {
+        super(msg, failures.isEmpty() ? null : failures.get(0).getCause());
+
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * The failure of one chunk, with the index of chunk in batch and the ids of domains in chunk.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkFailure {
+
+        private final int index;
+
+        private final List<String> ids;
+
+        private final Throwable cause;
+    }
+}
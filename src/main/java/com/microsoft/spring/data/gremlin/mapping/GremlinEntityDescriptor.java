@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.mapping;
+
+import com.microsoft.spring.data.gremlin.annotation.Edge;
+import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
+import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
+import com.microsoft.spring.data.gremlin.annotation.Graph;
+import com.microsoft.spring.data.gremlin.annotation.Vertex;
+import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
+import lombok.Getter;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.springframework.data.annotation.Id;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The immutable reflection metadata of one domain class, resolved once and shared by all threads
+ * through {@link GremlinEntityDescriptorRegistry}.
+ */
+@Getter
+public final class GremlinEntityDescriptor {
+
+    private final Class<?> domainClass;
+
+    private final Field idField;
+
+    private final GremlinEntityType entityType;
+
+    @Nullable
+    private final String entityLabel;
+
+    /**
+     * If the domain read by id is cached, opted in by {@link Vertex#cacheable()} or {@link Edge#cacheable()}.
+     */
+    private final boolean cacheable;
+
+    /**
+     * All the fields of domain class, in the order of {@link FieldUtils#getAllFields(Class)}.
+     */
+    private final List<Field> fields;
+
+    /**
+     * The fields except id, {@link EdgeFrom} and {@link EdgeTo}, which are persisted as gremlin properties.
+     */
+    private final List<Field> propertyFields;
+
+    @Nullable
+    private final Field edgeFromField;
+
+    @Nullable
+    private final Field edgeToField;
+
+    GremlinEntityDescriptor(@NonNull Class<?> domainClass) {
+        this.domainClass = domainClass;
+        this.idField = GremlinUtils.getIdField(domainClass);
+        ReflectionUtils.makeAccessible(this.idField);
+
+        this.entityType = getGremlinEntityType(domainClass); // The other fields getter may depend on type
+        this.entityLabel = getEntityLabel(domainClass, this.entityType);
+        this.cacheable = isCacheable(domainClass, this.entityType);
+        this.fields = Collections.unmodifiableList(FieldUtils.getAllFieldsList(domainClass));
+
+        final List<Field> properties = new ArrayList<>();
+        final List<Field> fromFields = new ArrayList<>();
+        final List<Field> toFields = new ArrayList<>();
+
+        for (final Field field : this.fields) {
+            if (isIdField(field)) {
+                continue;
+            } else if (field.getAnnotation(EdgeFrom.class) != null) {
+                fromFields.add(field);
+            } else if (field.getAnnotation(EdgeTo.class) != null) {
+                toFields.add(field);
+            } else {
+                properties.add(field);
+            }
+        }
+
+        this.propertyFields = Collections.unmodifiableList(properties);
+        this.edgeFromField = getEdgeAnnotatedField(this.entityType, fromFields);
+        this.edgeToField = getEdgeAnnotatedField(this.entityType, toFields);
+    }
+
+    public boolean isEntityEdge() {
+        return this.entityType == GremlinEntityType.EDGE;
+    }
+
+    public boolean isEntityVertex() {
+        return this.entityType == GremlinEntityType.VERTEX;
+    }
+
+    public boolean isEntityGraph() {
+        return this.entityType == GremlinEntityType.GRAPH;
+    }
+
+    /**
+     * Only edge domain with exactly one annotated field has the vertex field, or null returned.
+     */
+    private static Field getEdgeAnnotatedField(@NonNull GremlinEntityType type, @NonNull List<Field> fields) {
+        return type == GremlinEntityType.EDGE && fields.size() == 1 ? fields.get(0) : null;
+    }
+
+    private static boolean isIdField(@NonNull Field field) {
+        return field.getName().equals(Constants.PROPERTY_ID) || field.getAnnotation(Id.class) != null;
+    }
+
+    private static GremlinEntityType getGremlinEntityType(@NonNull Class<?> domainClass) {
+        if (domainClass.getAnnotation(Vertex.class) != null) {
+            return GremlinEntityType.VERTEX;
+        } else if (domainClass.getAnnotation(Edge.class) != null) {
+            return GremlinEntityType.EDGE;
+        } else if (domainClass.getAnnotation(Graph.class) != null) {
+            return GremlinEntityType.GRAPH;
+        }
+
+        throw new GremlinUnexpectedEntityTypeException("cannot not to identify gremlin entity type");
+    }
+
+    private static boolean isCacheable(@NonNull Class<?> domainClass, @NonNull GremlinEntityType type) {
+        if (type == GremlinEntityType.VERTEX) {
+            return domainClass.getAnnotation(Vertex.class).cacheable();
+        } else if (type == GremlinEntityType.EDGE) {
+            return domainClass.getAnnotation(Edge.class).cacheable();
+        }
+
+        return false;
+    }
+
+    private static String getEntityLabel(@NonNull Class<?> domainClass, @NonNull GremlinEntityType type) {
+        final String label;
+
+        switch (type) {
+            case VERTEX:
+                final Vertex vertexAnnotation = domainClass.getAnnotation(Vertex.class);
+
+                if (vertexAnnotation == null || vertexAnnotation.label().isEmpty()) {
+                    label = domainClass.getSimpleName();
+                } else {
+                    label = vertexAnnotation.label();
+                }
+                break;
+            case EDGE:
+                final Edge edgeAnnotation = domainClass.getAnnotation(Edge.class);
+
+                if (edgeAnnotation == null || edgeAnnotation.label().isEmpty()) {
+                    label = domainClass.getSimpleName();
+                } else {
+                    label = edgeAnnotation.label();
+                }
+                break;
+            case GRAPH:
+                label = null;
+                break;
+            case UNKNOWN:
+                // fallthrough
+            default:
+                throw new GremlinUnexpectedEntityTypeException("Unexpected gremlin entity type");
+        }
+
+        return label;
+    }
+}
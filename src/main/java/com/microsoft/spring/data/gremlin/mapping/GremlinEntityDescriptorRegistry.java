@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.mapping;
+
+import com.microsoft.spring.data.gremlin.annotation.Edge;
+import com.microsoft.spring.data.gremlin.annotation.Graph;
+import com.microsoft.spring.data.gremlin.annotation.Vertex;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe registry of {@link GremlinEntityDescriptor} per domain class, the reflection on domain class
+ * only happens at the first time, or at startup for the initial entity set of {@link GremlinMappingContext}.
+ */
+public final class GremlinEntityDescriptorRegistry {
+
+    private static final Map<Class<?>, GremlinEntityDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    private GremlinEntityDescriptorRegistry() {
+    }
+
+    @NonNull
+    public static GremlinEntityDescriptor getDescriptor(@NonNull Class<?> domainClass) {
+        final GremlinEntityDescriptor descriptor = DESCRIPTORS.get(domainClass);
+
+        if (descriptor != null) {
+            return descriptor;
+        }
+
+        return DESCRIPTORS.computeIfAbsent(domainClass, GremlinEntityDescriptor::new);
+    }
+
+    /**
+     * Resolve the descriptors of given classes ahead, the classes without gremlin annotation are skipped.
+     */
+    public static void register(@NonNull Collection<? extends Class<?>> domainClasses) {
+        domainClasses.stream().filter(GremlinEntityDescriptorRegistry::isGremlinEntity)
+                .forEach(GremlinEntityDescriptorRegistry::getDescriptor);
+    }
+
+    public static boolean contains(@NonNull Class<?> domainClass) {
+        return DESCRIPTORS.containsKey(domainClass);
+    }
+
+    public static void clear() {
+        DESCRIPTORS.clear();
+    }
+
+    public static boolean isGremlinEntity(@NonNull Class<?> domainClass) {
+        return domainClass.isAnnotationPresent(Vertex.class) || domainClass.isAnnotationPresent(Edge.class)
+                || domainClass.isAnnotationPresent(Graph.class);
+    }
+}
@@ -12,16 +12,37 @@ import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.TypeInformation;
 
+import java.util.Collections;
+import java.util.Set;
+
 public class GremlinMappingContext
         extends AbstractMappingContext<BasicGremlinPersistentEntity<?>, GremlinPersistentProperty>
         implements ApplicationContextAware {
     private ApplicationContext context;
+    private Set<? extends Class<?>> initialEntitySet = Collections.emptySet();
 
     @Override
     public void setApplicationContext(ApplicationContext context) {
         this.context = context;
     }
 
+    @Override
+    public void setInitialEntitySet(Set<? extends Class<?>> initialEntitySet) {
+        super.setInitialEntitySet(initialEntitySet);
+
+        this.initialEntitySet = initialEntitySet;
+    }
+
+    /**
+     * Warm the {@link GremlinEntityDescriptorRegistry} with initial entity set, avoid the reflection on hot path.
+     */
+    @Override
+    public void initialize() {
+        super.initialize();
+
+        GremlinEntityDescriptorRegistry.register(this.initialEntitySet);
+    }
+
     @Override
     public GremlinPersistentProperty createPersistentProperty(Property property,
                                                               BasicGremlinPersistentEntity<?> owner,
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provider interface for asynchronous Operations with Gremlin, the caller thread will not wait for gremlin server.
+ */
+public interface AsyncGremlinOperations {
+
+    <T> CompletableFuture<T> insertAsync(T object);
+
+    <T> CompletableFuture<T> findByIdAsync(Object id, Class<T> domainClass);
+
+    <T> CompletableFuture<List<T>> findAllAsync(Class<T> domainClass);
+
+    <T> CompletableFuture<T> saveAsync(T object);
+
+    <T> CompletableFuture<Void> deleteByIdAsync(Object id, Class<T> domainClass);
+
+    <T> CompletableFuture<List<T>> findAsync(GremlinQuery query, Class<T> domainClass);
+}
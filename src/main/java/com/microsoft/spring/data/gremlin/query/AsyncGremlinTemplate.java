@@ -0,0 +1,205 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The scripts are submitted by the asynchronous gremlin driver, and the results are mapped to domain
+ * on the given executor. Mapping Edge domain blocks the executor thread while querying its vertices, so the
+ * executor should not be shared with non-blocking tasks like ForkJoinPool.commonPool(), and it defaults to
+ * {@link #createMappingExecutor()}. The entity cache of GremlinTemplate is shared, the writes evict the cached
+ * domains when completed.
+ */
+public class AsyncGremlinTemplate implements AsyncGremlinOperations {
+
+    private static final long MAPPING_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    @Getter
+    private final GremlinTemplate gremlinTemplate;
+
+    private final Executor executor;
+
+    public AsyncGremlinTemplate(@NonNull GremlinTemplate template) {
+        this(template, createMappingExecutor());
+    }
+
+    public AsyncGremlinTemplate(@NonNull GremlinTemplate template, @NonNull Executor executor) {
+        this.gremlinTemplate = template;
+        this.executor = executor;
+    }
+
+    /**
+     * Create the dedicated executor for mapping, bounded to the number of processors, and its idle daemon threads
+     * are released after keep alive.
+     */
+    public static Executor createMappingExecutor() {
+        final int size = Runtime.getRuntime().availableProcessors();
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, MAPPING_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = new Thread(runnable, "spring-data-gremlin-mapping-" + count.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(@NonNull Throwable e) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        future.completeExceptionally(e);
+
+        return future;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> insertAsync(@NonNull T object) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                new GremlinEntityInformation(object.getClass());
+        final GremlinSource source = info.getGremlinSource();
+
+        this.gremlinTemplate.getMappingConverter().write(object, source);
+        source.setScriptBindings(this.gremlinTemplate.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateInsertScript(source);
+
+        return this.gremlinTemplate.executeQueryAsync(queryList, source.getScriptBindings())
+                .whenComplete((r, e) -> this.gremlinTemplate.evictCachedDomain(info, source.getId(), false))
+                .thenApply(r -> object);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> findByIdAsync(@NonNull Object id, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = info.getGremlinSource();
+
+        if (info.isEntityGraph()) {
+            return failedFuture(new UnsupportedOperationException("Gremlin graph cannot be findById."));
+        }
+
+        final T cached = this.gremlinTemplate.getCachedDomain(info, id, domainClass);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        source.setId(id.toString());
+        source.setScriptBindings(this.gremlinTemplate.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindByIdScript(source);
+
+        return this.gremlinTemplate.executeQueryAsync(queryList, source.getScriptBindings())
+                .thenApplyAsync(results -> {
+                    if (results.isEmpty()) {
+                        return null;
+                    }
+
+                    Assert.isTrue(results.size() == 1, "should be only one domain with given id");
+
+                    return this.gremlinTemplate.putCachedDomain(info, id, this.gremlinTemplate.recoverDomain(source,
+                            results.get(0), domainClass, info.isEntityEdge()));
+                }, this.executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> findAllAsync(@NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = info.getGremlinSource();
+
+        if (info.isEntityGraph()) {
+            return failedFuture(new UnsupportedOperationException("Gremlin graph cannot be findAll."));
+        }
+
+        source.setScriptBindings(this.gremlinTemplate.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source);
+
+        return this.gremlinTemplate.executeQueryAsync(queryList, source.getScriptBindings())
+                .thenApplyAsync(results -> results.isEmpty() ? Collections.<T>emptyList() :
+                        this.gremlinTemplate.recoverDomainList(source, results, domainClass, info.isEntityEdge()),
+                        this.executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> saveAsync(@NonNull T object) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                new GremlinEntityInformation(object.getClass());
+
+        if (info.isEntityGraph()) {
+            return CompletableFuture.supplyAsync(() -> this.gremlinTemplate.save(object), this.executor);
+        }
+
+        final GremlinSource source = info.getGremlinSource();
+
+        this.gremlinTemplate.getMappingConverter().write(object, source);
+        source.setScriptBindings(this.gremlinTemplate.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateUpsertScript(source);
+
+        return this.gremlinTemplate.executeQueryAsync(queryList, source.getScriptBindings())
+                .whenComplete((r, e) -> this.gremlinTemplate.evictCachedDomain(info, source.getId(), false))
+                .thenApply(results -> {
+                    if (results.isEmpty()) {
+                        throw new GremlinQueryException("cannot save the edge as its vertices don't exist");
+                    }
+
+                    return object;
+                });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteByIdAsync(@NonNull Object id, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = info.getGremlinSource();
+
+        source.setId(id.toString());
+        source.setScriptBindings(this.gremlinTemplate.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdScript(source);
+
+        return this.gremlinTemplate.executeQueryAsync(queryList, source.getScriptBindings())
+                .whenComplete((r, e) -> this.gremlinTemplate.evictCachedDomain(info, id, true))
+                .thenApply(r -> null);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> findAsync(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = this.gremlinTemplate.getQuerySource(info, query);
+
+        query.setScriptGenerator(new QueryFindScriptGenerator());
+        query.setScriptBindings(this.gremlinTemplate.createScriptBindings());
+
+        final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+        return this.gremlinTemplate.executeQueryAsync(queryList, query.getScriptBindings())
+                .thenApplyAsync(results -> results.isEmpty() ? Collections.<T>emptyList() :
+                        this.gremlinTemplate.recoverDomainList(source, results, domainClass, info.isEntityEdge()),
+                        this.executor);
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Iterate the domains of query chunk by chunk, the next chunk is fetched on server side only when the previous one is
+ * consumed, so at most one chunk of domains is held in memory. No more chunk is fetched after close.
+ */
+final class GremlinDomainIterator<T> implements CloseableIterator<T> {
+
+    private final GremlinQuery query;
+    private final Function<GremlinQuery, List<T>> finder;
+    private final int fetchSize;
+    private final Function<T, String> idGetter;
+
+    private long offset;
+    private String lastId;
+    private Long remaining;
+    private Iterator<T> chunk = Collections.emptyIterator();
+    private boolean exhausted;
+    private boolean closed;
+
+    /**
+     * @param query     the query should be sorted to make the chunks stable
+     * @param finder    find the domains of one chunk
+     * @param fetchSize the count of domains in one chunk
+     * @param idGetter  get the id of domain as keyset of next chunk if the query is sorted only by id, or null to
+     *                  fetch the chunks by range()
+     */
+    GremlinDomainIterator(@NonNull GremlinQuery query, @NonNull Function<GremlinQuery, List<T>> finder,
+                          int fetchSize, @Nullable Function<T, String> idGetter) {
+        Assert.isTrue(fetchSize > 0, "fetchSize should be positive");
+
+        this.query = query;
+        this.finder = finder;
+        this.fetchSize = fetchSize;
+        this.idGetter = idGetter;
+        this.offset = query.getOffset();
+        this.remaining = query.getLimit() == null ? null : query.getLimit().longValue();
+    }
+
+    private void fetchNextChunk() {
+        final int size = this.remaining == null ? this.fetchSize : (int) Math.min(this.fetchSize, this.remaining);
+
+        if (size == 0) {
+            this.exhausted = true;
+            return;
+        }
+
+        final GremlinQuery chunkQuery = this.lastId == null ? this.query.slice(this.offset, size) :
+                this.query.slice(0, size).after(this.lastId);
+        final List<T> domains = this.finder.apply(chunkQuery);
+
+        if (this.idGetter != null && !domains.isEmpty()) {
+            this.lastId = this.idGetter.apply(domains.get(domains.size() - 1));
+        }
+
+        this.offset += domains.size();
+        this.remaining = this.remaining == null ? null : this.remaining - domains.size();
+        this.exhausted = domains.size() < size;
+        this.chunk = domains.iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.closed && !this.chunk.hasNext() && !this.exhausted) {
+            this.fetchNextChunk();
+        }
+
+        return !this.closed && this.chunk.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("no more domains of the query");
+        }
+
+        return this.chunk.next();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.chunk = Collections.emptyIterator();
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptorRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_ENTITY_CACHE_PREFIX;
+
+/**
+ * The second-level cache of domains read by id, keyed by domain class and id. Each domain class has its own cache
+ * from the CacheManager, named like gremlin:com.example.Person, and the eviction policy is up to the CacheManager.
+ * The cached domain is shared by all readers, and should not be modified.
+ */
+public class GremlinEntityCache {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * The names of caches used, with the entity type of their domain class.
+     */
+    private final Map<String, GremlinEntityType> cacheTypes = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public GremlinEntityCache(@NonNull CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Nullable
+    private Cache getCache(@NonNull Class<?> domainClass) {
+        final String name = GREMLIN_ENTITY_CACHE_PREFIX + domainClass.getName();
+        final Cache cache = this.cacheManager.getCache(name);
+
+        if (cache != null && !this.cacheTypes.containsKey(name)) {
+            this.cacheTypes.put(name, GremlinEntityDescriptorRegistry.getDescriptor(domainClass).getEntityType());
+        }
+
+        return cache;
+    }
+
+    @Nullable
+    public <T> T get(@NonNull Class<T> domainClass, @NonNull Object id) {
+        final Cache cache = this.getCache(domainClass);
+        final T domain = cache == null ? null : cache.get(id.toString(), domainClass);
+
+        if (domain == null) {
+            this.missCount.incrementAndGet();
+        } else {
+            this.hitCount.incrementAndGet();
+        }
+
+        return domain;
+    }
+
+    public void put(@NonNull Class<?> domainClass, @NonNull Object id, @NonNull Object domain) {
+        final Cache cache = this.getCache(domainClass);
+
+        if (cache != null) {
+            cache.put(id.toString(), domain);
+        }
+    }
+
+    public void evict(@NonNull Class<?> domainClass, @NonNull Object id) {
+        final Cache cache = this.getCache(domainClass);
+
+        if (cache != null) {
+            cache.evict(id.toString());
+        }
+    }
+
+    public void clear(@NonNull Class<?> domainClass) {
+        final Cache cache = this.getCache(domainClass);
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Clear the caches of all domain classes with given entity type.
+     */
+    public void clear(@NonNull GremlinEntityType type) {
+        this.cacheTypes.forEach((name, cacheType) -> {
+            final Cache cache = this.cacheManager.getCache(name);
+
+            if (cacheType == type && cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    public void clear() {
+        this.cacheTypes.keySet().forEach(name -> {
+            final Cache cache = this.cacheManager.getCache(name);
+
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    /**
+     * @return the count of domains found in cache
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * @return the count of domains not found in cache, which are read from gremlin server
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The identity map of domains read by one operation, or by the scope of GremlinTemplate#withIdentityMap, keyed by
+ * domain class and id. The domain of the same class and id is instantiated only once and shared by reference. It is
+ * confined to one thread and not thread-safe.
+ */
+final class GremlinIdentityMap {
+
+    private final Map<Class<?>, Map<String, Object>> domains = new HashMap<>();
+
+    @Nullable
+    <T> T get(@NonNull Class<T> domainClass, @NonNull Object id) {
+        final Map<String, Object> domainsOfClass = this.domains.get(domainClass);
+
+        return domainsOfClass == null ? null : domainClass.cast(domainsOfClass.get(id.toString()));
+    }
+
+    boolean contains(@NonNull Class<?> domainClass, @NonNull Object id) {
+        return this.get(domainClass, id) != null;
+    }
+
+    /**
+     * Put the domain if absent.
+     *
+     * @return the domain already in map, or the given one
+     */
+    <T> T putIfAbsent(@NonNull Class<T> domainClass, @NonNull Object id, @NonNull T domain) {
+        final Object existing = this.domains.computeIfAbsent(domainClass, k -> new HashMap<>())
+                .putIfAbsent(id.toString(), domain);
+
+        return existing == null ? domain : domainClass.cast(existing);
+    }
+
+    void remove(@NonNull Class<?> domainClass, @NonNull Object id) {
+        final Map<String, Object> domainsOfClass = this.domains.get(domainClass);
+
+        if (domainsOfClass != null) {
+            domainsOfClass.remove(id.toString());
+        }
+    }
+
+    void clear() {
+        this.domains.clear();
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * The default CacheManager of {@link GremlinEntityCache}, each cache keeps at most maxSize entries by evicting the
+ * least recently used one, and the entries expire after timeToLive unless it is zero. Other CacheManager with
+ * eviction policy, like Caffeine, can be plugged in by AbstractGremlinConfiguration#getEntityCacheManager.
+ */
+public class GremlinLruCacheManager implements CacheManager {
+
+    private final int maxSize;
+
+    private final long timeToLiveNanos;
+
+    private final LongSupplier ticker;
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public GremlinLruCacheManager(int maxSize, @NonNull Duration timeToLive) {
+        this(maxSize, timeToLive, System::nanoTime);
+    }
+
+    GremlinLruCacheManager(int maxSize, @NonNull Duration timeToLive, @NonNull LongSupplier ticker) {
+        Assert.isTrue(maxSize > 0, "maxSize should be positive");
+        Assert.isTrue(!timeToLive.isNegative(), "timeToLive should not be negative");
+
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.ticker = ticker;
+    }
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        return this.caches.computeIfAbsent(name, LruCache::new);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(this.caches.keySet());
+    }
+
+    @AllArgsConstructor
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long createdAt;
+    }
+
+    private final class LruCache extends AbstractValueAdaptingCache {
+
+        private final String name;
+
+        private final Map<Object, Entry> entries;
+
+        private LruCache(@NonNull String name) {
+            super(false);
+
+            this.name = name;
+            this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                    return this.size() > GremlinLruCacheManager.this.maxSize;
+                }
+            };
+        }
+
+        private boolean isExpired(@NonNull Entry entry) {
+            final long ttl = GremlinLruCacheManager.this.timeToLiveNanos;
+
+            return ttl > 0 && GremlinLruCacheManager.this.ticker.getAsLong() - entry.createdAt >= ttl;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return this.entries;
+        }
+
+        @Override
+        @Nullable
+        protected synchronized Object lookup(@NonNull Object key) {
+            final Entry entry = this.entries.get(key);
+
+            if (entry == null) {
+                return null;
+            } else if (this.isExpired(entry)) {
+                this.entries.remove(key);
+                return null;
+            }
+
+            return entry.value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public synchronized <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+            final Object value = this.lookup(key);
+
+            if (value != null) {
+                return (T) this.fromStoreValue(value);
+            }
+
+            try {
+                final T loaded = valueLoader.call();
+
+                this.put(key, loaded);
+
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        @Override
+        public synchronized void put(@NonNull Object key, @Nullable Object value) {
+            this.entries.put(key, new Entry(this.toStoreValue(value), GremlinLruCacheManager.this.ticker.getAsLong()));
+        }
+
+        @Override
+        @Nullable
+        public synchronized ValueWrapper putIfAbsent(@NonNull Object key, @Nullable Object value) {
+            final Object existing = this.lookup(key);
+
+            if (existing == null) {
+                this.put(key, value);
+            }
+
+            return this.toValueWrapper(existing);
+        }
+
+        @Override
+        public synchronized void evict(@NonNull Object key) {
+            this.entries.remove(key);
+        }
+
+        @Override
+        public synchronized void clear() {
+            this.entries.clear();
+        }
+    }
+}
@@ -8,8 +8,10 @@ package com.microsoft.spring.data.gremlin.query;
 import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import org.springframework.data.util.CloseableIterator;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Provider interface for basic Operations with Gremlin
@@ -26,10 +28,16 @@ public interface GremlinOperations {
 
     <T> void deleteById(Object id, Class<T> domainClass);
 
+    <T> void deleteByIds(Iterable<?> ids, Class<T> domainClass);
+
     <T> T insert(T object);
 
     <T> T findById(Object id, Class<T> domainClass);
 
+    <T> List<T> findByIds(Iterable<?> ids, Class<T> domainClass);
+
+    <T> boolean existsById(Object id, Class<T> domainClass);
+
     <T> T findVertexById(Object id, Class<T> domainClass);
 
     <T> T findEdgeById(Object id, Class<T> domainClass);
@@ -38,13 +46,29 @@ public interface GremlinOperations {
 
     <T> T save(T object);
 
+    <T> List<T> saveAll(Iterable<T> objects);
+
     <T> List<T> findAll(Class<T> domainClass);
 
     long vertexCount();
 
     long edgeCount();
 
+    <T> long count(Class<T> domainClass);
+
     <T> List<T> find(GremlinQuery query, Class<T> domainClass);
 
+    <T> long count(GremlinQuery query, Class<T> domainClass);
+
+    <T> boolean exists(GremlinQuery query, Class<T> domainClass);
+
+    <T> long delete(GremlinQuery query, Class<T> domainClass);
+
+    <T> CloseableIterator<T> iterate(GremlinQuery query, Class<T> domainClass);
+
+    <T> Stream<T> stream(GremlinQuery query, Class<T> domainClass);
+
+    <T> ScanSlice<T> scan(Class<T> domainClass, ScanCursor after, int size);
+
     MappingGremlinConverter getMappingConverter();
 }
@@ -5,11 +5,14 @@
  */
 package com.microsoft.spring.data.gremlin.query;
 
-import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
-import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
 import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
 import com.microsoft.spring.data.gremlin.common.GremlinFactory;
+import com.microsoft.spring.data.gremlin.conversion.GremlinEntityMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinPropertyHandle;
+import com.microsoft.spring.data.gremlin.conversion.LazyVertexProxyFactory;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.result.GremlinResultValueMapReader;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralEdge;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralGraph;
@@ -18,30 +21,48 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertexReader;
+import com.microsoft.spring.data.gremlin.exception.GremlinBatchException;
 import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryCountScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryDeleteScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryExistsScriptGenerator;
 import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
-import org.apache.commons.lang3.reflect.FieldUtils;
+import com.microsoft.spring.data.gremlin.telemetry.GremlinMetrics;
+import lombok.Getter;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public class GremlinTemplate implements GremlinOperations, ApplicationContextAware {
@@ -49,12 +70,36 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
     private final GremlinFactory factory;
     private final MappingGremlinConverter mappingConverter;
 
+    /**
+     * The second-level cache of domains read by findById, null if disabled.
+     */
+    @Getter
+    @Nullable
+    private final GremlinEntityCache entityCache;
+
+    /**
+     * The identity map shared by the reads in the scope of withIdentityMap on current thread.
+     */
+    private final ThreadLocal<GremlinIdentityMap> scopedIdentityMap = new ThreadLocal<>();
+
+    /**
+     * The metrics of operations, script executions and result mappings, nothing recorded by default.
+     */
+    @Getter
+    private GremlinMetrics metrics = GremlinMetrics.NONE;
+
     private Client gremlinClient;
     private ApplicationContext context;
 
     public GremlinTemplate(@NonNull GremlinFactory factory, @NonNull MappingGremlinConverter converter) {
+        this(factory, converter, null);
+    }
+
+    public GremlinTemplate(@NonNull GremlinFactory factory, @NonNull MappingGremlinConverter converter,
+                           @Nullable GremlinEntityCache entityCache) {
         this.factory = factory;
         this.mappingConverter = converter;
+        this.entityCache = entityCache;
     }
 
     @Override
@@ -79,34 +124,263 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         this.context = context;
     }
 
+    public void setMetrics(@NonNull GremlinMetrics metrics) {
+        Assert.notNull(metrics, "metrics should not be null");
+
+        this.metrics = metrics;
+    }
+
+    /**
+     * Record the time of operation to metrics, whether it completes or throws.
+     */
+    private <R> R observe(@NonNull String operation, @Nullable Class<?> domainClass, @NonNull Supplier<R> action) {
+        final long start = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            final R result = action.get();
+
+            failed = false;
+
+            return result;
+        } finally {
+            this.metrics.recordOperation(operation, domainClass, System.nanoTime() - start, failed);
+        }
+    }
+
+    private void observe(@NonNull String operation, @Nullable Class<?> domainClass, @NonNull Runnable action) {
+        this.observe(operation, domainClass, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run the action with an identity map shared by all the reads on current thread in it, like the first-level cache
+     * of a request or transaction. Each vertex or edge of the same class and id is fetched and instantiated only once
+     * and shared by reference, then the domains are not refreshed in the action unless written through this
+     * template. The nested call shares the identity map of outer one.
+     *
+     * @param action the reads sharing the identity map
+     * @return the result of action
+     */
+    public <R> R withIdentityMap(@NonNull Supplier<R> action) {
+        if (this.scopedIdentityMap.get() != null) {
+            return action.get();
+        }
+
+        this.scopedIdentityMap.set(new GremlinIdentityMap());
+
+        try {
+            return action.get();
+        } finally {
+            this.scopedIdentityMap.remove();
+        }
+    }
+
+    /**
+     * Share the domain read by the identity map of current scope, the one already read is returned instead.
+     */
+    @Nullable
+    private <T> T shareDomain(@NonNull Class<T> domainClass, @NonNull Object id, @Nullable T domain) {
+        final GremlinIdentityMap identityMap = this.scopedIdentityMap.get();
+
+        return domain == null || identityMap == null ? domain : identityMap.putIfAbsent(domainClass, id, domain);
+    }
+
+    private <T> List<T> shareDomains(@NonNull GremlinEntityInformation info, @NonNull Class<T> domainClass,
+                                     @NonNull List<T> domains) {
+        if (this.scopedIdentityMap.get() != null) {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation<T, ?> typedInfo = info;
+
+            domains.replaceAll(d -> this.shareDomain(domainClass, typedInfo.getId(d), d));
+        }
+
+        return domains;
+    }
+
+    private boolean isEntityCached(@NonNull GremlinEntityInformation info) {
+        return this.entityCache != null && !info.isEntityGraph() && info.getDescriptor().isCacheable();
+    }
+
+    /**
+     * Get the domain from entity cache, or null if not cached or the domain class is not cacheable.
+     */
+    @Nullable
+    <T> T getCachedDomain(@NonNull GremlinEntityInformation info, @NonNull Object id, @NonNull Class<T> domainClass) {
+        return this.isEntityCached(info) ? this.entityCache.get(domainClass, id) : null;
+    }
+
+    <T> T putCachedDomain(@NonNull GremlinEntityInformation info, @NonNull Object id, @Nullable T domain) {
+        if (domain != null && this.isEntityCached(info)) {
+            this.entityCache.put(info.getJavaType(), id, domain);
+        }
+
+        return domain;
+    }
+
+    /**
+     * Evict the written domain from entity cache, or all the domains of class if id is null. As the cached edges hold
+     * their vertices, and the dropped vertex drops its edges together, the cached edges are cleared by any vertex
+     * write. The graph domain clears all the caches. The identity map of current scope is cleared by any drop.
+     */
+    void evictCachedDomain(@NonNull GremlinEntityInformation info, @Nullable Object id, boolean dropped) {
+        final GremlinIdentityMap identityMap = this.scopedIdentityMap.get();
+
+        if (identityMap != null && (id == null || dropped || info.isEntityGraph())) {
+            identityMap.clear();
+        } else if (identityMap != null) {
+            identityMap.remove(info.getJavaType(), id);
+        }
+
+        if (this.entityCache == null) {
+            return;
+        } else if (info.isEntityGraph()) {
+            this.entityCache.clear();
+            return;
+        }
+
+        if (this.isEntityCached(info) && id == null) {
+            this.entityCache.clear(info.getJavaType());
+        } else if (this.isEntityCached(info)) {
+            this.entityCache.evict(info.getJavaType(), id);
+        }
+
+        if (info.isEntityVertex()) {
+            this.entityCache.clear(GremlinEntityType.EDGE);
+        }
+    }
+
+    /**
+     * Create the bindings for generated scripts if enabled, or null for the values inlined into scripts.
+     */
+    GremlinScriptBindings createScriptBindings() {
+        return this.factory.getConfiguration().isScriptBindingsEnabled() ? new GremlinScriptBindings() : null;
+    }
+
+    @NonNull
+    private List<Result> executeQuery(@NonNull List<String> queryList, @Nullable GremlinScriptBindings bindings) {
+        if (bindings == null) {
+            return this.executeQuery(queryList);
+        }
+
+        Assert.isTrue(bindings.size() == queryList.size(), "each script should have its own bindings");
+
+        final List<Result> results = new ArrayList<>();
+        final long start = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            for (int i = 0; i < queryList.size(); i++) {
+                results.addAll(this.getGremlinClient().submit(queryList.get(i), bindings.getBindings(i)).all().join());
+            }
+
+            failed = false;
+
+            return results;
+        } catch (CompletionException e) {
+            throw new GremlinQueryException(String.format("unable to complete execute %s from gremlin", queryList), e);
+        } finally {
+            this.metrics.recordExecution(queryList, results.size(), System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Submit the scripts one by one without blocking, the results of all scripts are collected in order.
+     */
+    @NonNull
+    CompletableFuture<List<Result>> executeQueryAsync(@NonNull List<String> queryList,
+                                                      @Nullable GremlinScriptBindings bindings) {
+        Assert.isTrue(bindings == null || bindings.size() == queryList.size(), "each script should have its bindings");
+
+        final CompletableFuture<List<Result>> future = new CompletableFuture<>();
+        final long start = System.nanoTime();
+        CompletableFuture<List<Result>> results = CompletableFuture.completedFuture(new ArrayList<>());
+
+        for (int i = 0; i < queryList.size(); i++) {
+            final String query = queryList.get(i);
+            final Map<String, Object> parameters = bindings == null ? null : bindings.getBindings(i);
+
+            results = results.thenCompose(list -> this.submitAsync(query, parameters)
+                    .thenCompose(ResultSet::all)
+                    .thenApply(r -> {
+                        list.addAll(r);
+                        return list;
+                    }));
+        }
+
+        results.whenComplete((list, e) -> {
+            this.metrics.recordExecution(queryList, list == null ? 0 : list.size(), System.nanoTime() - start,
+                    e != null);
+
+            if (e == null) {
+                future.complete(list);
+            } else {
+                final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                final String message = String.format("unable to complete execute %s from gremlin", queryList);
+
+                future.completeExceptionally(new GremlinQueryException(message, cause));
+            }
+        });
+
+        return future;
+    }
+
+    CompletableFuture<ResultSet> submitAsync(@NonNull String query, @Nullable Map<String, Object> bindings) {
+        if (bindings == null) {
+            return this.getGremlinClient().submitAsync(query);
+        }
+
+        return this.getGremlinClient().submitAsync(query, bindings);
+    }
+
     @NonNull
     private List<Result> executeQuery(@NonNull List<String> queryList) {
         final List<Result> results = new ArrayList<>();
+        final long start = System.nanoTime();
+        boolean failed = true;
 
         try {
             queryList.forEach(query -> results.addAll(this.getGremlinClient().submit(query).all().join()));
+            failed = false;
             return results;
         } catch (CompletionException e) {
             throw new GremlinQueryException(String.format("unable to complete execute %s from gremlin", queryList), e);
+        } finally {
+            this.metrics.recordExecution(queryList, results.size(), System.nanoTime() - start, failed);
         }
     }
 
     @Override
     public void deleteAll() {
+        this.observe("deleteAll", null, () -> this.deleteAllInternal());
+    }
+
+    private void deleteAllInternal() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralGraph();
         final List<String> queryList = script.generateDeleteAllScript(new GremlinSourceGraph());
 
-        this.executeQuery(queryList);
+        try {
+            this.executeQuery(queryList);
+        } finally {
+            if (this.entityCache != null) {
+                this.entityCache.clear();
+            }
+        }
     }
 
     @Override
     public void deleteAll(GremlinEntityType type) {
+        this.observe("deleteAll", null, () -> this.deleteAllInternal(type));
+    }
+
+    private void deleteAllInternal(GremlinEntityType type) {
         if (type == GremlinEntityType.UNKNOWN) {
             throw new GremlinUnexpectedEntityTypeException("must be explicit entity type");
         }
 
         if (type != GremlinEntityType.EDGE) {
-            this.deleteAll();
+            this.deleteAllInternal();
         }
 
         final GremlinSource source = new GremlinSourceEdge();
@@ -115,28 +389,54 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
         final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteAllScript(source);
 
-        this.executeQuery(queryList);
+        try {
+            this.executeQuery(queryList);
+        } finally {
+            if (this.entityCache != null) {
+                this.entityCache.clear(GremlinEntityType.EDGE);
+            }
+        }
     }
 
     public <T> void deleteAll(@NonNull Class<T> domainClass) {
+        this.observe("deleteAll", domainClass, () -> this.deleteAllInternal(domainClass));
+    }
+
+    private <T> void deleteAllInternal(@NonNull Class<T> domainClass) {
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
         final GremlinSource source = info.getGremlinSource();
+
+        source.setScriptBindings(this.createScriptBindings());
+
         final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteAllByClassScript(source);
 
-        this.executeQuery(queryList);
+        try {
+            this.executeQuery(queryList, source.getScriptBindings());
+        } finally {
+            this.evictCachedDomain(info, null, true);
+        }
     }
 
     @Override
     public <T> T insert(@NonNull T object) {
+        return this.observe("insert", object.getClass(), () -> this.insertInternal(object));
+    }
+
+    private <T> T insertInternal(@NonNull T object) {
         final Class domainClass = object.getClass();
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
         final GremlinSource source = info.getGremlinSource();
 
         this.mappingConverter.write(object, source);
+        source.setScriptBindings(this.createScriptBindings());
 
         final List<String> queryList = source.getGremlinScriptLiteral().generateInsertScript(source);
 
-        this.executeQuery(queryList);
+        try {
+            this.executeQuery(queryList, source.getScriptBindings());
+        } finally {
+            this.evictCachedDomain(info, source.getId(), false);
+        }
 
         return object;
     }
@@ -152,47 +452,144 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         return this.findById(id, domainClass);
     }
 
-    private Object getEdgeAnnotatedFieldValue(@NonNull Field field, @NonNull String vertexId) {
-        if (field.getType() == String.class) {
-            return vertexId;
-        } else if (field.getType().isPrimitive()) {
+    @NonNull
+    private GremlinPropertyHandle getEdgeAnnotatedHandle(@Nullable GremlinPropertyHandle handle) {
+        if (handle == null) {
+            throw new GremlinEntityInformationException("should be only one Annotation");
+        }
+
+        return handle;
+    }
+
+    /**
+     * Collect the ids of vertices to be fetched for the EdgeFrom or EdgeTo field, grouped by the vertex domain.
+     * The lazy vertex is fetched when its proxy is accessed.
+     */
+    private void collectVertexIds(@NonNull GremlinPropertyHandle handle, @NonNull List<String> ids,
+                                  @NonNull Map<Class<?>, Set<String>> vertexIds) {
+        if (handle.getType() == String.class) {
+            return;
+        } else if (handle.getType().isPrimitive()) {
             throw new GremlinUnexpectedEntityTypeException("only String type of primitive is allowed");
-        } else {
-            return this.findVertexById(vertexId, field.getType());
+        } else if (handle.isLazy()) {
+            return;
         }
+
+        vertexIds.computeIfAbsent(handle.getType(), k -> new LinkedHashSet<>()).addAll(ids);
     }
 
-    @NonNull
-    private Field getEdgeAnnotatedField(@NonNull Class<?> domainClass,
-                                        @NonNull Class<? extends Annotation> annotationClass) {
-        final List<Field> fields = FieldUtils.getFieldsListWithAnnotation(domainClass, annotationClass);
+    /**
+     * Split the distinct ids into chunks of batchSize, each chunk is sent by one script.
+     */
+    private List<List<String>> partitionIds(@NonNull Iterable<?> ids) {
+        final int batchSize = this.factory.getConfiguration().getBatchSize();
+        final Set<String> idSet = new LinkedHashSet<>();
+        final List<List<String>> chunks = new ArrayList<>();
 
-        if (fields.size() != 1) {
-            throw new GremlinEntityInformationException("should be only one Annotation");
+        Assert.isTrue(batchSize > 0, "batchSize should be positive");
+
+        ids.forEach(id -> idSet.add(id.toString()));
+
+        final List<String> idList = new ArrayList<>(idSet);
+
+        for (int start = 0; start < idList.size(); start += batchSize) {
+            chunks.add(idList.subList(start, Math.min(start + batchSize, idList.size())));
         }
 
-        return fields.get(0);
+        return chunks;
     }
 
     /**
-     * Find Edge need another two query to obtain edgeFrom and edgeTo.
-     * This function will do that and make edge domain completion.
+     * Fetch the vertices by ids in chunks of batchSize into the identity map, the vertex of each id is read only once
+     * and the ones already in identity map are skipped.
      */
-    private <T> void completeEdge(@NonNull T domain, @NonNull GremlinSourceEdge source) {
-        final ConvertingPropertyAccessor accessor = this.mappingConverter.getPropertyAccessor(domain);
-        final GremlinPersistentEntity persistentEntity = this.mappingConverter.getPersistentEntity(domain.getClass());
+    private <T> void findVerticesByIds(@NonNull Set<String> ids, @NonNull Class<T> domainClass,
+                                       @NonNull GremlinIdentityMap identityMap) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
 
-        final Field fromField = this.getEdgeAnnotatedField(domain.getClass(), EdgeFrom.class);
-        final Field toField = this.getEdgeAnnotatedField(domain.getClass(), EdgeTo.class);
+        if (!info.isEntityVertex()) {
+            throw new GremlinUnexpectedEntityTypeException("should be vertex domain for findEdge");
+        }
 
-        final PersistentProperty propertyFrom = persistentEntity.getPersistentProperty(fromField.getName());
-        final PersistentProperty propertyTo = persistentEntity.getPersistentProperty(toField.getName());
+        final GremlinSource source = info.getGremlinSource();
+        final GremlinScriptLiteral literal = source.getGremlinScriptLiteral();
+        final List<String> absentIds = ids.stream().filter(id -> !identityMap.contains(domainClass, id))
+                .collect(Collectors.toList());
 
-        Assert.notNull(propertyFrom, "persistence property should not be null");
-        Assert.notNull(propertyTo, "persistence property should not be null");
+        for (final List<String> chunk : this.partitionIds(absentIds)) {
+            source.setScriptBindings(this.createScriptBindings());
+
+            final List<String> queryList = literal.generateFindByIdsScript(source, chunk);
+
+            final List<Result> results = this.executeQuery(queryList, source.getScriptBindings());
+            final long start = System.nanoTime();
+
+            for (final Result result : results) {
+                source.doGremlinResultRead(result);
+                identityMap.putIfAbsent(domainClass, source.getId(), this.mappingConverter.read(domainClass, source));
+            }
+
+            this.metrics.recordMapping(domainClass, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The lazy vertex is the one in identity map if already read, or the proxy shared by the edges of this call.
+     */
+    private Object getEdgeAnnotatedFieldValue(@NonNull GremlinPropertyHandle handle, @NonNull String vertexId,
+                                              @NonNull GremlinIdentityMap identityMap,
+                                              @NonNull Map<Class<?>, Map<String, Object>> lazyVertices) {
+        final Class<?> type = handle.getType();
+
+        if (type == String.class) {
+            return vertexId;
+        } else if (handle.isLazy() && !identityMap.contains(type, vertexId)) {
+            return lazyVertices.computeIfAbsent(type, k -> new HashMap<>())
+                    .computeIfAbsent(vertexId, id -> this.createLazyVertex(type, id));
+        }
 
-        accessor.setProperty(propertyFrom, this.getEdgeAnnotatedFieldValue(fromField, source.getVertexIdFrom()));
-        accessor.setProperty(propertyTo, this.getEdgeAnnotatedFieldValue(toField, source.getVertexIdTo()));
+        return identityMap.get(type, vertexId);
+    }
+
+    private <V> V createLazyVertex(@NonNull Class<V> domainClass, @NonNull String vertexId) {
+        return LazyVertexProxyFactory.createProxy(domainClass, vertexId, id -> this.findVertexById(id, domainClass));
+    }
+
+    /**
+     * Find Edge need the vertices of edgeFrom and edgeTo to complete the edge domain. Instead of two queries
+     * for each edge, the vertices of all edges are fetched by ids in batch, and shared by the edges as an identity
+     * map of this call, or of the withIdentityMap scope if any.
+     */
+    private <T> void completeEdges(@NonNull List<T> domains, @NonNull List<String> vertexIdsFrom,
+                                   @NonNull List<String> vertexIdsTo) {
+        if (domains.isEmpty()) {
+            return;
+        }
+
+        final GremlinEntityMappingPlan plan = this.mappingConverter.getMappingPlan(domains.get(0).getClass());
+        final ConversionService conversionService = this.mappingConverter.getConversionService();
+        final GremlinPropertyHandle fromHandle = this.getEdgeAnnotatedHandle(plan.getEdgeFromHandle());
+        final GremlinPropertyHandle toHandle = this.getEdgeAnnotatedHandle(plan.getEdgeToHandle());
+        final Map<Class<?>, Set<String>> vertexIds = new HashMap<>();
+        final GremlinIdentityMap scoped = this.scopedIdentityMap.get();
+        final GremlinIdentityMap identityMap = scoped == null ? new GremlinIdentityMap() : scoped;
+        final Map<Class<?>, Map<String, Object>> lazyVertices = new HashMap<>();
+
+        this.collectVertexIds(fromHandle, vertexIdsFrom, vertexIds);
+        this.collectVertexIds(toHandle, vertexIdsTo, vertexIds);
+
+        vertexIds.forEach((type, ids) -> this.findVerticesByIds(ids, type, identityMap));
+
+        for (int i = 0; i < domains.size(); i++) {
+            final PersistentPropertyAccessor accessor = plan.getPropertyAccessor(domains.get(i));
+            final Object from = this.getEdgeAnnotatedFieldValue(fromHandle, vertexIdsFrom.get(i), identityMap,
+                    lazyVertices);
+            final Object to = this.getEdgeAnnotatedFieldValue(toHandle, vertexIdsTo.get(i), identityMap,
+                    lazyVertices);
+
+            fromHandle.setValue(accessor, from, conversionService);
+            toHandle.setValue(accessor, to, conversionService);
+        }
     }
 
     @Override
@@ -208,6 +605,10 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
     @Override
     public <T> T findById(@NonNull Object id, @NonNull Class<T> domainClass) {
+        return this.observe("findById", domainClass, () -> this.findByIdInternal(id, domainClass));
+    }
+
+    private <T> T findByIdInternal(@NonNull Object id, @NonNull Class<T> domainClass) {
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
         final GremlinSource source = info.getGremlinSource();
 
@@ -217,10 +618,24 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
         Assert.isTrue(info.isEntityEdge() || info.isEntityVertex(), "only accept vertex or edge");
 
+        final GremlinIdentityMap identityMap = this.scopedIdentityMap.get();
+        final T known = identityMap == null ? null : identityMap.get(domainClass, id);
+
+        if (known != null) {
+            return known;
+        }
+
+        final T cached = this.getCachedDomain(info, id, domainClass);
+
+        if (cached != null) {
+            return this.shareDomain(domainClass, id, cached);
+        }
+
         source.setId(id.toString());
+        source.setScriptBindings(this.createScriptBindings());
 
         final List<String> queryList = source.getGremlinScriptLiteral().generateFindByIdScript(source);
-        final List<Result> results = this.executeQuery(queryList);
+        final List<Result> results = this.executeQuery(queryList, source.getScriptBindings());
 
         if (results.isEmpty()) {
             return null;
@@ -229,51 +644,251 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         Assert.isTrue(results.size() == 1, "should be only one domain with given id");
         Assert.isTrue(id.toString().equals(source.getId()), "should be the same id");
 
-        return this.recoverDomain(source, results.get(0), domainClass, info.isEntityEdge());
+        final T domain = this.recoverDomain(source, results.get(0), domainClass, info.isEntityEdge());
+
+        return this.shareDomain(domainClass, id, this.putCachedDomain(info, id, domain));
+    }
+
+    /**
+     * Fetch the domains by ids like g.V('1', '2') in chunks of batchSize, instead of one findById for each id. The
+     * ids not found are skipped.
+     */
+    @Override
+    public <T> List<T> findByIds(@NonNull Iterable<?> ids, @NonNull Class<T> domainClass) {
+        return this.observe("findByIds", domainClass, () -> this.findByIdsInternal(ids, domainClass));
+    }
+
+    private <T> List<T> findByIdsInternal(@NonNull Iterable<?> ids, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = info.getGremlinSource();
+        final List<T> domains = new ArrayList<>();
+
+        if (info.isEntityGraph()) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findByIds.");
+        }
+
+        for (final List<String> chunk : this.partitionIds(ids)) {
+            source.setScriptBindings(this.createScriptBindings());
+
+            final List<String> queryList = source.getGremlinScriptLiteral().generateFindByIdsScript(source, chunk);
+            final List<Result> results = this.executeQuery(queryList, source.getScriptBindings());
+
+            if (!results.isEmpty()) {
+                domains.addAll(this.recoverDomainList(source, results, domainClass, info.isEntityEdge()));
+            }
+        }
+
+        return this.shareDomains(info, domainClass, domains);
+    }
+
+    /**
+     * Probe the domain by id like g.V(id).limit(1).count(), neither the domain nor the vertices of edge are read.
+     */
+    @Override
+    public <T> boolean existsById(@NonNull Object id, @NonNull Class<T> domainClass) {
+        return this.observe("existsById", domainClass, () -> this.existsByIdInternal(id, domainClass));
+    }
+
+    private <T> boolean existsByIdInternal(@NonNull Object id, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = info.getGremlinSource();
+
+        if (info.isEntityGraph()) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be existsById.");
+        }
+
+        source.setId(id.toString());
+        source.setScriptBindings(this.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateExistsByIdScript(source);
+
+        return this.executeCountQuery(queryList, source.getScriptBindings()) > 0;
     }
 
-    private <T> T updateInternal(@NonNull T object, @NonNull GremlinEntityInformation information) {
+    private <T> List<Result> updateInternal(@NonNull T object, @NonNull GremlinEntityInformation information) {
         final GremlinSource source = information.getGremlinSource();
 
         this.mappingConverter.write(object, source);
+        source.setScriptBindings(this.createScriptBindings());
 
         final List<String> queryList = source.getGremlinScriptLiteral().generateUpdateScript(source);
 
-        this.executeQuery(queryList);
-
-        return object;
+        try {
+            return this.executeQuery(queryList, source.getScriptBindings());
+        } finally {
+            this.evictCachedDomain(information, source.getId(), false);
+        }
     }
 
+    /**
+     * The update script of vertex or edge returns nothing if the object doesn't exist, which is checked by the same
+     * round trip instead of a findById before update.
+     */
     @Override
     public <T> T update(@NonNull T object) {
+        return this.observe("update", object.getClass(), () -> this.updateInternal(object));
+    }
+
+    private <T> T updateInternal(@NonNull T object) {
         @SuppressWarnings("unchecked") final Class<T> domainClass = (Class<T>) object.getClass();
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
-        @SuppressWarnings("unchecked") final Object id = info.getId(object);
+        final List<Result> results = this.updateInternal(object, info);
 
-        if (!info.isEntityGraph() && this.findById(id, domainClass) == null) {
+        if (!info.isEntityGraph() && results.isEmpty()) {
             throw new GremlinQueryException("cannot update the object doesn't exist");
         }
 
-        return this.updateInternal(object, info);
+        return object;
     }
 
+    /**
+     * Vertex or edge is upserted by one script, the existing one is updated and the absent one is inserted. The upsert
+     * of edge returns nothing if its vertices don't exist.
+     */
     @Override
     public <T> T save(@NonNull T object) {
+        return this.observe("save", object.getClass(), () -> this.saveInternal(object));
+    }
+
+    private <T> T saveInternal(@NonNull T object) {
         @SuppressWarnings("unchecked") final Class<T> domainClass = (Class<T>) object.getClass();
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
-        @SuppressWarnings("unchecked") final Object id = info.getId(object);
 
-        if (info.isEntityGraph() && this.isEmptyGraph(object)) {
-            return this.insert(object);
-        } else if (!info.isEntityGraph() && this.findById(id, domainClass) == null) {
-            return this.insert(object);
-        } else {
-            return this.updateInternal(object, info);
+        if (info.isEntityGraph()) {
+            if (this.isEmptyGraphInternal(object)) {
+                return this.insertInternal(object);
+            }
+
+            this.updateInternal(object, info);
+
+            return object;
+        }
+
+        final GremlinSource source = info.getGremlinSource();
+
+        this.mappingConverter.write(object, source);
+        source.setScriptBindings(this.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateUpsertScript(source);
+        final List<Result> results;
+
+        try {
+            results = this.executeQuery(queryList, source.getScriptBindings());
+        } finally {
+            this.evictCachedDomain(info, source.getId(), false);
+        }
+
+        if (results.isEmpty()) {
+            throw new GremlinQueryException("cannot save the edge as its vertices don't exist");
+        }
+
+        return object;
+    }
+
+    /**
+     * Upsert the sources chunk by chunk, at most batchConcurrency chunks are in flight at the same time.
+     * Waits for all the chunks completed, and the failed chunks are reported together.
+     */
+    private void executeBatchUpsert(@NonNull List<GremlinSource> sources, @NonNull GremlinScriptLiteral literal) {
+        final int batchSize = this.factory.getConfiguration().getBatchSize();
+        final int concurrency = this.factory.getConfiguration().getBatchConcurrency();
+
+        Assert.isTrue(batchSize > 0, "batchSize should be positive");
+        Assert.isTrue(concurrency > 0, "batchConcurrency should be positive");
+
+        final Semaphore permits = new Semaphore(concurrency);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        final List<GremlinBatchException.ChunkFailure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        for (int start = 0; start < sources.size(); start += batchSize) {
+            final int index = start / batchSize;
+            final List<GremlinSource> chunk = sources.subList(start, Math.min(start + batchSize, sources.size()));
+            final GremlinScriptBindings bindings = this.createScriptBindings();
+
+            chunk.forEach(source -> source.setScriptBindings(bindings));
+
+            final List<String> queryList = literal.generateBatchUpsertScript(chunk);
+
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GremlinQueryException("interrupted when waiting to submit batch script", e);
+            }
+
+            futures.add(this.executeQueryAsync(queryList, bindings).handle((results, e) -> {
+                permits.release();
+
+                if (e != null) {
+                    final List<String> ids = chunk.stream().map(GremlinSource::getId).collect(Collectors.toList());
+
+                    failures.add(new GremlinBatchException.ChunkFailure(index, ids, e));
+                }
+
+                return null;
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        if (!failures.isEmpty()) {
+            final List<GremlinBatchException.ChunkFailure> sorted = new ArrayList<>(failures);
+
+            sorted.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+
+            throw new GremlinBatchException(String.format("%d of %d chunks failed to upsert", sorted.size(),
+                    futures.size()), sorted);
+        }
+    }
+
+    /**
+     * Vertices are upserted before edges, as edge can only be added between existing vertices.
+     * Graph domain has its own structure and is saved one by one.
+     */
+    @Override
+    public <T> List<T> saveAll(@NonNull Iterable<T> objects) {
+        return this.observe("saveAll", null, () -> this.saveAllInternal(objects));
+    }
+
+    private <T> List<T> saveAllInternal(@NonNull Iterable<T> objects) {
+        final List<T> domains = new ArrayList<>();
+        final List<GremlinSource> vertexSources = new ArrayList<>();
+        final List<GremlinSource> edgeSources = new ArrayList<>();
+        final Map<GremlinSource, GremlinEntityInformation> sourceInfos = new HashMap<>();
+
+        for (final T object : objects) {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                    new GremlinEntityInformation(object.getClass());
+
+            if (info.isEntityGraph()) {
+                this.saveInternal(object);
+            } else {
+                final GremlinSource source = info.getGremlinSource();
+
+                this.mappingConverter.write(object, source);
+                (info.isEntityEdge() ? edgeSources : vertexSources).add(source);
+                sourceInfos.put(source, info);
+            }
+
+            domains.add(object);
+        }
+
+        try {
+            this.executeBatchUpsert(vertexSources, new GremlinScriptLiteralVertex());
+            this.executeBatchUpsert(edgeSources, new GremlinScriptLiteralEdge());
+        } finally {
+            sourceInfos.forEach((source, info) -> this.evictCachedDomain(info, source.getId(), false));
         }
+
+        return domains;
     }
 
     @Override
     public <T> List<T> findAll(@NonNull Class<T> domainClass) {
+        return this.observe("findAll", domainClass, () -> this.findAllInternal(domainClass));
+    }
+
+    private <T> List<T> findAllInternal(@NonNull Class<T> domainClass) {
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
         final GremlinSource source = info.getGremlinSource();
 
@@ -281,30 +896,75 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
             throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
         }
 
+        source.setScriptBindings(this.createScriptBindings());
+
         final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source);
-        final List<Result> results = this.executeQuery(queryList);
+        final List<Result> results = this.executeQuery(queryList, source.getScriptBindings());
 
         if (results.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return this.recoverDomainList(source, results, domainClass, info.isEntityEdge());
+        return this.shareDomains(info, domainClass, this.recoverDomainList(source, results, domainClass,
+                info.isEntityEdge()));
     }
 
     @Override
     public <T> void deleteById(@NonNull Object id, @NonNull Class<T> domainClass) {
+        this.observe("deleteById", domainClass, () -> this.deleteByIdInternal(id, domainClass));
+    }
+
+    private <T> void deleteByIdInternal(@NonNull Object id, @NonNull Class<T> domainClass) {
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
         final GremlinSource source = info.getGremlinSource();
 
         source.setId(id.toString());
+        source.setScriptBindings(this.createScriptBindings());
 
         final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdScript(source);
 
-        this.executeQuery(queryList);
+        try {
+            this.executeQuery(queryList, source.getScriptBindings());
+        } finally {
+            this.evictCachedDomain(info, id, true);
+        }
+    }
+
+    /**
+     * Drop the domains by ids like g.V('1', '2').drop() in chunks of batchSize, instead of one deleteById for each id.
+     */
+    @Override
+    public <T> void deleteByIds(@NonNull Iterable<?> ids, @NonNull Class<T> domainClass) {
+        this.observe("deleteByIds", domainClass, () -> this.deleteByIdsInternal(ids, domainClass));
+    }
+
+    private <T> void deleteByIdsInternal(@NonNull Iterable<?> ids, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+        final GremlinSource source = info.getGremlinSource();
+
+        if (info.isEntityGraph()) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be deleteByIds.");
+        }
+
+        for (final List<String> chunk : this.partitionIds(ids)) {
+            source.setScriptBindings(this.createScriptBindings());
+
+            final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdsScript(source, chunk);
+
+            try {
+                this.executeQuery(queryList, source.getScriptBindings());
+            } finally {
+                chunk.forEach(id -> this.evictCachedDomain(info, id, true));
+            }
+        }
     }
 
     @Override
     public <T> boolean isEmptyGraph(@NonNull T object) {
+        return this.observe("isEmptyGraph", object.getClass(), () -> this.isEmptyGraphInternal(object));
+    }
+
+    private <T> boolean isEmptyGraphInternal(@NonNull T object) {
         @SuppressWarnings("unchecked") final Class<T> domainClass = (Class<T>) object.getClass();
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
 
@@ -315,67 +975,279 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         final GremlinSource source = info.getGremlinSource();
         final GremlinScriptLiteralGraph literalGraph = (GremlinScriptLiteralGraph) source.getGremlinScriptLiteral();
         final List<String> queryList = literalGraph.generateIsEmptyScript(source);
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size() == 0;
+        return this.executeCountQuery(queryList, null) == 0;
+    }
+
+    /**
+     * Count query is executed on server side, only the single number of count returned.
+     */
+    private long executeCountQuery(@NonNull List<String> queryList, @Nullable GremlinScriptBindings bindings) {
+        final List<Result> results = this.executeQuery(queryList, bindings);
+
+        Assert.isTrue(results.size() == 1, "count query should return only one result");
+
+        return results.get(0).getLong();
     }
 
     @Override
     public long vertexCount() {
+        return this.observe("vertexCount", null, () -> this.vertexCountInternal());
+    }
+
+    private long vertexCountInternal() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
         final List<String> queryList = script.generateCountScript(new GremlinSourceVertex());
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size();
+        return this.executeCountQuery(queryList, null);
     }
 
     @Override
     public long edgeCount() {
+        return this.observe("edgeCount", null, () -> this.edgeCountInternal());
+    }
+
+    private long edgeCountInternal() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralEdge();
         final List<String> queryList = script.generateCountScript(new GremlinSourceEdge());
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size();
+        return this.executeCountQuery(queryList, null);
     }
 
-    private <T> T recoverDomain(@NonNull GremlinSource source, @NonNull Result result,
-                                @NonNull Class<T> domainClass, boolean isEntityEdge) {
-        final T domain;
+    @Override
+    public <T> long count(@NonNull Class<T> domainClass) {
+        return this.observe("count", domainClass, () -> this.countInternal(domainClass));
+    }
 
-        source.doGremlinResultRead(result);
-        domain = this.mappingConverter.read(domainClass, source);
+    private <T> long countInternal(@NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
 
-        if (isEntityEdge) {
-            this.completeEdge(domain, (GremlinSourceEdge) source);
+        if (info.isEntityGraph()) {
+            return this.vertexCountInternal() + this.edgeCountInternal();
         }
 
-        return domain;
+        final GremlinSource source = info.getGremlinSource();
+
+        source.setScriptBindings(this.createScriptBindings());
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateCountByClassScript(source);
+
+        return this.executeCountQuery(queryList, source.getScriptBindings());
+    }
+
+    int getStreamFetchSize() {
+        return this.factory.getConfiguration().getStreamFetchSize();
+    }
+
+    <T> T recoverDomain(@NonNull GremlinSource source, @NonNull Result result,
+                        @NonNull Class<T> domainClass, boolean isEntityEdge) {
+        return this.recoverDomainList(source, Collections.singletonList(result), domainClass, isEntityEdge).get(0);
     }
 
-    private <T> List<T> recoverDomainList(@NonNull GremlinSource source, @NonNull List<Result> results,
-                                          @NonNull Class<T> domainClass, boolean isEntityEdge) {
+    <T> List<T> recoverDomainList(@NonNull GremlinSource source, @NonNull List<Result> results,
+                                  @NonNull Class<T> domainClass, boolean isEntityEdge) {
         final List<T> domainList = new ArrayList<>();
+        final List<String> vertexIdsFrom = new ArrayList<>();
+        final List<String> vertexIdsTo = new ArrayList<>();
+        final long start = System.nanoTime();
+
+        for (final Result result : results) {
+            source.doGremlinResultRead(result);
+            domainList.add(this.mappingConverter.read(domainClass, source));
+
+            if (isEntityEdge) {
+                vertexIdsFrom.add(((GremlinSourceEdge) source).getVertexIdFrom());
+                vertexIdsTo.add(((GremlinSourceEdge) source).getVertexIdTo());
+            }
+        }
+
+        this.metrics.recordMapping(domainClass, System.nanoTime() - start);
 
-        results.forEach(s -> domainList.add(this.recoverDomain(source, s, domainClass, isEntityEdge)));
+        if (isEntityEdge) {
+            this.completeEdges(domainList, vertexIdsFrom, vertexIdsTo);
+        }
 
         return domainList;
     }
 
+    /**
+     * The source to read the results of query, the projected vertex is read from the valueMap of projected keys, and
+     * only the fetched properties are mapped to domain.
+     */
+    GremlinSource getQuerySource(@NonNull GremlinEntityInformation info, @NonNull GremlinQuery query) {
+        final GremlinSource source = info.getGremlinSource();
+
+        if (info.isEntityVertex() && !query.getProjection().isEmpty()) {
+            source.setGremlinResultReader(new GremlinResultValueMapReader());
+            source.setGremlinSourceReader(new GremlinSourceVertexReader(true));
+        }
+
+        return source;
+    }
+
     @Override
     public <T> List<T> find(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return this.observe("find", domainClass, () -> this.findInternal(query, domainClass));
+    }
+
+    private <T> List<T> findInternal(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
         @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
-        final GremlinSource source = info.getGremlinSource();
+        final GremlinSource source = this.getQuerySource(info, query);
 
         query.setScriptGenerator(new QueryFindScriptGenerator());
+        query.setScriptBindings(this.createScriptBindings());
 
         final List<String> queryList = query.doSentenceGenerate(domainClass);
-        final List<Result> results = this.executeQuery(queryList);
+        final List<Result> results = this.executeQuery(queryList, query.getScriptBindings());
 
         if (results.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return this.recoverDomainList(source, results, domainClass, info.isEntityEdge());
+        final List<T> domains = this.recoverDomainList(source, results, domainClass, info.isEntityEdge());
+
+        return query.getProjection().isEmpty() ? this.shareDomains(info, domainClass, domains) : domains;
     }
-}
 
+    @Override
+    public <T> long count(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return this.observe("count", domainClass, () -> this.countInternal(query, domainClass));
+    }
+
+    private <T> long countInternal(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        query.setScriptGenerator(new QueryCountScriptGenerator());
+        query.setScriptBindings(this.createScriptBindings());
+
+        final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+        return this.executeCountQuery(queryList, query.getScriptBindings());
+    }
+
+    @Override
+    public <T> boolean exists(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return this.observe("exists", domainClass, () -> this.existsInternal(query, domainClass));
+    }
+
+    private <T> boolean existsInternal(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        query.setScriptGenerator(new QueryExistsScriptGenerator());
+        query.setScriptBindings(this.createScriptBindings());
+
+        final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+        return this.executeCountQuery(queryList, query.getScriptBindings()) > 0;
+    }
+
+    private <T> long drop(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(domainClass);
+
+        query.setScriptGenerator(new QueryDeleteScriptGenerator());
+        query.setScriptBindings(this.createScriptBindings());
+
+        final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+        try {
+            return this.executeCountQuery(queryList, query.getScriptBindings());
+        } finally {
+            this.evictCachedDomain(info, null, true);
+        }
+    }
+
+    /**
+     * Drop the matched domains on server side without fetching them. If deleteChunkSize is configured, the domains
+     * are dropped by limit(deleteChunkSize) in repeated requests until a chunk is not full, then each request is kept
+     * short for millions of domains. The query limited by itself, like deleteTop10By, is dropped by a single request.
+     */
+    @Override
+    public <T> long delete(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return this.observe("delete", domainClass, () -> this.deleteInternal(query, domainClass));
+    }
+
+    private <T> long deleteInternal(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        final int chunkSize = this.factory.getConfiguration().getDeleteChunkSize();
+
+        if (chunkSize <= 0 || query.getLimit() != null || query.getOffset() > 0) {
+            return this.drop(query, domainClass);
+        }
+
+        long count = 0;
+        long dropped;
+
+        do {
+            dropped = this.drop(query.slice(0, chunkSize), domainClass);
+            count += dropped;
+        } while (dropped == chunkSize);
+
+        return count;
+    }
+
+    /**
+     * The domains are fetched in chunks of streamFetchSize as iterated, instead of holding all the results in memory,
+     * and closing the iterator stops the fetching of remaining chunks. The unsorted query is scanned by keyset of id,
+     * or the sorted one is ordered by id in addition and fetched by range() to make the chunks stable.
+     */
+    @Override
+    public <T> CloseableIterator<T> iterate(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation<T, ?> info =
+                new GremlinEntityInformation(domainClass);
+
+        if (info.isEntityGraph()) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be iterated.");
+        }
+
+        final String idName = info.getIdField().getName();
+        final int fetchSize = this.getStreamFetchSize();
+        final Function<GremlinQuery, List<T>> finder = chunk -> this.find(chunk, domainClass);
+
+        final GremlinQuery sorted = query.copy();
+
+        if (query.getSort().isUnsorted()) {
+            sorted.with(Sort.by(idName));
+
+            return new GremlinDomainIterator<>(sorted, finder, fetchSize, d -> info.getId(d).toString());
+        } else if (query.getSort().getOrderFor(idName) == null) {
+            sorted.with(Sort.by(idName));
+        }
+
+        return new GremlinDomainIterator<>(sorted, finder, fetchSize, null);
+    }
+
+    @Override
+    public <T> Stream<T> stream(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return StreamUtils.createStreamFromIterator(this.iterate(query, domainClass));
+    }
+
+    /**
+     * Scan the domains ordered by id after the cursor, like has(id, gt(lastId)).order().by(id).limit(size). The
+     * server walks no skipped domains as range() does, and the returned cursor resumes the scan.
+     */
+    @Override
+    public <T> ScanSlice<T> scan(@NonNull Class<T> domainClass, @Nullable ScanCursor after, int size) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation<T, ?> info =
+                new GremlinEntityInformation(domainClass);
+
+        Assert.isTrue(size > 0, "size should be positive");
+
+        if (info.isEntityGraph()) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be scanned.");
+        }
+
+        final ScanCursor cursor = after == null ? ScanCursor.start() : after;
+        final GremlinQuery query = new GremlinQuery().with(Sort.by(info.getIdField().getName())).limit(size + 1);
+
+        if (!cursor.isStart()) {
+            query.after(cursor.getLastId());
+        }
+
+        final List<T> domains = this.find(query, domainClass);
+        final boolean hasNext = domains.size() > size;
+        final List<T> content = hasNext ? domains.subList(0, size) : domains;
+
+        if (content.isEmpty()) {
+            return new ScanSlice<>(content, cursor, false);
+        }
+
+        final String lastId = info.getId(content.get(content.size() - 1)).toString();
+
+        return new ScanSlice<>(content, ScanCursor.after(lastId), hasNext);
+    }
+}
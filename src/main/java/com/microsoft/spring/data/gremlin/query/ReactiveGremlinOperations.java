@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Provider interface for reactive Operations with Gremlin, the domains are streamed as results arrive.
+ */
+public interface ReactiveGremlinOperations {
+
+    Mono<Void> deleteAll();
+
+    Mono<Void> deleteAll(GremlinEntityType type);
+
+    <T> Mono<Void> deleteAll(Class<T> domainClass);
+
+    <T> Mono<Void> deleteById(Object id, Class<T> domainClass);
+
+    <T> Mono<T> insert(T object);
+
+    <T> Mono<T> findById(Object id, Class<T> domainClass);
+
+    <T> Mono<Boolean> existsById(Object id, Class<T> domainClass);
+
+    <T> Mono<T> save(T object);
+
+    <T> Flux<T> findAll(Class<T> domainClass);
+
+    Mono<Long> vertexCount();
+
+    Mono<Long> edgeCount();
+
+    <T> Mono<Long> count(Class<T> domainClass);
+
+    <T> Flux<T> find(GremlinQuery query, Class<T> domainClass);
+
+    <T> Mono<Long> count(GremlinQuery query, Class<T> domainClass);
+
+    <T> Mono<Boolean> exists(GremlinQuery query, Class<T> domainClass);
+
+    <T> Mono<Long> delete(GremlinQuery query, Class<T> domainClass);
+
+    MappingGremlinConverter getMappingConverter();
+}
@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralEdge;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralVertex;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryCountScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryExistsScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import lombok.Getter;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The results of find are streamed from the ResultSet of gremlin driver as they arrive, and iterating ResultSet
+ * only happens when subscriber requests, on the given scheduler as the iteration may wait for gremlin server.
+ */
+public class ReactiveGremlinTemplate implements ReactiveGremlinOperations {
+
+    @Getter
+    private final AsyncGremlinTemplate asyncGremlinTemplate;
+
+    private final GremlinTemplate template;
+
+    private final Scheduler scheduler;
+
+    public ReactiveGremlinTemplate(@NonNull AsyncGremlinTemplate asyncTemplate) {
+        this(asyncTemplate, Schedulers.elastic());
+    }
+
+    public ReactiveGremlinTemplate(@NonNull AsyncGremlinTemplate asyncTemplate, @NonNull Scheduler scheduler) {
+        this.asyncGremlinTemplate = asyncTemplate;
+        this.template = asyncTemplate.getGremlinTemplate();
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public MappingGremlinConverter getMappingConverter() {
+        return this.template.getMappingConverter();
+    }
+
+    private Throwable toQueryException(@NonNull List<String> queryList, @NonNull Throwable e) {
+        if (e instanceof GremlinQueryException) {
+            return e;
+        }
+
+        final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+
+        return new GremlinQueryException(String.format("unable to complete execute %s from gremlin", queryList), cause);
+    }
+
+    /**
+     * Stream the results of scripts one by one, the script will not be submitted until subscribed.
+     */
+    private Flux<Result> executeQuery(@NonNull List<String> queryList, @Nullable GremlinScriptBindings bindings) {
+        Assert.isTrue(bindings == null || bindings.size() == queryList.size(), "each script should have its bindings");
+
+        return Flux.range(0, queryList.size())
+                .concatMap(i -> {
+                    final Map<String, Object> parameters = bindings == null ? null : bindings.getBindings(i);
+
+                    return Mono.defer(() -> Mono.fromFuture(this.template.submitAsync(queryList.get(i), parameters)))
+                            .flatMapMany(resultSet -> Flux.fromIterable(resultSet).subscribeOn(this.scheduler));
+                })
+                .onErrorMap(e -> this.toQueryException(queryList, e));
+    }
+
+    /**
+     * The vertices are mapped one by one, while the edges are buffered by streamFetchSize to complete their vertices
+     * of each buffer in one query instead of one query per edge.
+     */
+    private <T> Flux<T> recoverDomains(@NonNull Flux<Result> results, @NonNull GremlinSource source,
+                                       @NonNull Class<T> domainClass, boolean isEntityEdge) {
+        if (!isEntityEdge) {
+            return results.map(result -> this.template.recoverDomain(source, result, domainClass, false));
+        }
+
+        return results.buffer(this.template.getStreamFetchSize())
+                .concatMapIterable(batch -> this.template.recoverDomainList(source, batch, domainClass, true));
+    }
+
+    private Mono<Long> executeCountQuery(@NonNull List<String> queryList, @Nullable GremlinScriptBindings bindings) {
+        return this.executeQuery(queryList, bindings).single().map(Result::getLong);
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Mono.fromRunnable(this.template::deleteAll).subscribeOn(this.scheduler).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(GremlinEntityType type) {
+        return Mono.fromRunnable(() -> this.template.deleteAll(type)).subscribeOn(this.scheduler).then();
+    }
+
+    @Override
+    public <T> Mono<Void> deleteAll(@NonNull Class<T> domainClass) {
+        return Mono.fromRunnable(() -> this.template.deleteAll(domainClass)).subscribeOn(this.scheduler).then();
+    }
+
+    @Override
+    public <T> Mono<Void> deleteById(@NonNull Object id, @NonNull Class<T> domainClass) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncGremlinTemplate.deleteByIdAsync(id, domainClass)));
+    }
+
+    @Override
+    public <T> Mono<T> insert(@NonNull T object) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncGremlinTemplate.insertAsync(object)));
+    }
+
+    @Override
+    public <T> Mono<T> findById(@NonNull Object id, @NonNull Class<T> domainClass) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncGremlinTemplate.findByIdAsync(id, domainClass)));
+    }
+
+    @Override
+    public <T> Mono<Boolean> existsById(@NonNull Object id, @NonNull Class<T> domainClass) {
+        return Mono.defer(() -> {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                    new GremlinEntityInformation(domainClass);
+            final GremlinSource source = info.getGremlinSource();
+
+            if (info.isEntityGraph()) {
+                return Mono.error(new UnsupportedOperationException("Gremlin graph cannot be existsById."));
+            }
+
+            source.setId(id.toString());
+            source.setScriptBindings(this.template.createScriptBindings());
+
+            final List<String> queryList = source.getGremlinScriptLiteral().generateExistsByIdScript(source);
+
+            return this.executeCountQuery(queryList, source.getScriptBindings()).map(count -> count > 0);
+        });
+    }
+
+    @Override
+    public <T> Mono<T> save(@NonNull T object) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncGremlinTemplate.saveAsync(object)));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(@NonNull Class<T> domainClass) {
+        return Flux.defer(() -> {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                    new GremlinEntityInformation(domainClass);
+            final GremlinSource source = info.getGremlinSource();
+
+            if (info.isEntityGraph()) {
+                return Flux.error(new UnsupportedOperationException("Gremlin graph cannot be findAll."));
+            }
+
+            source.setScriptBindings(this.template.createScriptBindings());
+
+            final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source);
+
+            return this.recoverDomains(this.executeQuery(queryList, source.getScriptBindings()), source, domainClass,
+                    info.isEntityEdge());
+        });
+    }
+
+    @Override
+    public Mono<Long> vertexCount() {
+        return Mono.defer(() -> {
+            final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
+
+            return this.executeCountQuery(script.generateCountScript(new GremlinSourceVertex()), null);
+        });
+    }
+
+    @Override
+    public Mono<Long> edgeCount() {
+        return Mono.defer(() -> {
+            final GremlinScriptLiteral script = new GremlinScriptLiteralEdge();
+
+            return this.executeCountQuery(script.generateCountScript(new GremlinSourceEdge()), null);
+        });
+    }
+
+    @Override
+    public <T> Mono<Long> count(@NonNull Class<T> domainClass) {
+        return Mono.defer(() -> {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                    new GremlinEntityInformation(domainClass);
+
+            if (info.isEntityGraph()) {
+                return Mono.zip(this.vertexCount(), this.edgeCount(), Long::sum);
+            }
+
+            final GremlinSource source = info.getGremlinSource();
+
+            source.setScriptBindings(this.template.createScriptBindings());
+
+            final List<String> queryList = source.getGremlinScriptLiteral().generateCountByClassScript(source);
+
+            return this.executeCountQuery(queryList, source.getScriptBindings());
+        });
+    }
+
+    @Override
+    public <T> Flux<T> find(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return Flux.defer(() -> {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation info =
+                    new GremlinEntityInformation(domainClass);
+            final GremlinSource source = this.template.getQuerySource(info, query);
+
+            query.setScriptGenerator(new QueryFindScriptGenerator());
+            query.setScriptBindings(this.template.createScriptBindings());
+
+            final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+            return this.recoverDomains(this.executeQuery(queryList, query.getScriptBindings()), source, domainClass,
+                    info.isEntityEdge());
+        });
+    }
+
+    @Override
+    public <T> Mono<Long> count(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return Mono.defer(() -> {
+            query.setScriptGenerator(new QueryCountScriptGenerator());
+            query.setScriptBindings(this.template.createScriptBindings());
+
+            final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+            return this.executeCountQuery(queryList, query.getScriptBindings());
+        });
+    }
+
+    @Override
+    public <T> Mono<Boolean> exists(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return Mono.defer(() -> {
+            query.setScriptGenerator(new QueryExistsScriptGenerator());
+            query.setScriptBindings(this.template.createScriptBindings());
+
+            final List<String> queryList = query.doSentenceGenerate(domainClass);
+
+            return this.executeCountQuery(queryList, query.getScriptBindings()).map(count -> count > 0);
+        });
+    }
+
+    @Override
+    public <T> Mono<Long> delete(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
+        return Mono.fromCallable(() -> this.template.delete(query, domainClass)).subscribeOn(this.scheduler);
+    }
+}
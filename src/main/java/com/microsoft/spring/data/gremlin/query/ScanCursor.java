@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The position of a keyset scan, which is the last id scanned. The cursor can be persisted as a token to resume the
+ * scan after failure, without rescanning from the beginning.
+ */
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScanCursor implements Serializable {
+
+    private static final long serialVersionUID = 5871260429143781227L;
+
+    private static final ScanCursor START = new ScanCursor(null);
+
+    /**
+     * The last id scanned, null means the scan starts from the beginning.
+     */
+    @Getter
+    @Nullable
+    private final String lastId;
+
+    public static ScanCursor start() {
+        return START;
+    }
+
+    public static ScanCursor after(@NonNull String lastId) {
+        return new ScanCursor(lastId);
+    }
+
+    public boolean isStart() {
+        return this.lastId == null;
+    }
+
+    /**
+     * Encode the cursor as URL safe token, the empty token is the beginning of scan.
+     */
+    public String toToken() {
+        if (this.isStart()) {
+            return "";
+        }
+
+        return Base64.getUrlEncoder().encodeToString(this.lastId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScanCursor fromToken(@NonNull String token) {
+        if (token.isEmpty()) {
+            return START;
+        }
+
+        try {
+            return new ScanCursor(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid scan cursor token: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+/**
+ * One slice of keyset scan, the next slice is scanned after the cursor instead of by page number.
+ */
+@EqualsAndHashCode(callSuper = true)
+public class ScanSlice<T> extends SliceImpl<T> {
+
+    private static final long serialVersionUID = -3019872538113453301L;
+
+    /**
+     * The cursor of the last domain in this slice, or the cursor scanned after if the slice is empty.
+     */
+    @Getter
+    private final ScanCursor cursor;
+
+    public ScanSlice(@NonNull List<T> content, @NonNull ScanCursor cursor, boolean hasNext) {
+        super(content, Pageable.unpaged(), hasNext);
+
+        this.cursor = cursor;
+    }
+
+    /**
+     * Keyset scan has no page number, the cursor should be used for next slice.
+     */
+    @Override
+    public Pageable nextPageable() {
+        return Pageable.unpaged();
+    }
+
+    @Override
+    public Pageable previousPageable() {
+        return Pageable.unpaged();
+    }
+}
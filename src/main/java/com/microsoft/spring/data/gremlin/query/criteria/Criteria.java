@@ -42,6 +42,19 @@ public class Criteria {
             case BEFORE:
             case BETWEEN:
             case IS_EQUAL:
+            case IS_NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_EQUAL:
+            case IN:
+            case NOT_IN:
+            case IS_NULL:
+            case IS_NOT_NULL:
+            case IS_TRUE:
+            case IS_FALSE:
+            case STARTING_WITH:
+            case CONTAINING:
                 return true;
             default:
                 return false;
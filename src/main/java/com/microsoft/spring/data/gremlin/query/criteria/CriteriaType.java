@@ -14,7 +14,20 @@ public enum CriteriaType {
     EXISTS,
     AFTER,
     BEFORE,
-    BETWEEN;
+    BETWEEN,
+    IS_NOT_EQUAL,
+    GREATER_THAN,
+    GREATER_THAN_EQUAL,
+    LESS_THAN,
+    LESS_THAN_EQUAL,
+    IN,
+    NOT_IN,
+    IS_NULL,
+    IS_NOT_NULL,
+    IS_TRUE,
+    IS_FALSE,
+    STARTING_WITH,
+    CONTAINING;
 
     public static String criteriaTypeToGremlin(CriteriaType type) {
         switch (type) {
@@ -32,4 +45,46 @@ public enum CriteriaType {
                 throw new UnsupportedOperationException("Unsupported criteria type.");
         }
     }
+
+    /**
+     * The same as criteriaTypeToGremlin, but take the variable names from script bindings as values.
+     */
+    public static String criteriaTypeToGremlinVariable(CriteriaType type) {
+        switch (type) {
+            case AFTER:
+                return GREMLIN_PRIMITIVE_IS_GT_VARIABLE;
+            case BEFORE:
+                return GREMLIN_PRIMITIVE_IS_LT_VARIABLE;
+            case BETWEEN:
+                return GREMLIN_PRIMITIVE_IS_BETWEEN_VARIABLE;
+            default:
+                return criteriaTypeToGremlin(type);
+        }
+    }
+
+    /**
+     * The predicate of the criteria type compared by has(key, predicate), take the values generated as arguments.
+     */
+    public static String criteriaTypeToPredicate(CriteriaType type) {
+        switch (type) {
+            case IS_NOT_EQUAL:
+                return GREMLIN_PRIMITIVE_NEQ_VARIABLE;
+            case GREATER_THAN:
+                return GREMLIN_PRIMITIVE_GT_VARIABLE;
+            case GREATER_THAN_EQUAL:
+                return GREMLIN_PRIMITIVE_GTE_VARIABLE;
+            case LESS_THAN:
+                return GREMLIN_PRIMITIVE_LT_VARIABLE;
+            case LESS_THAN_EQUAL:
+                return GREMLIN_PRIMITIVE_LTE_VARIABLE;
+            case IN:
+                return GREMLIN_PRIMITIVE_WITHIN_VARIABLE;
+            case NOT_IN:
+                return GREMLIN_PRIMITIVE_WITHOUT_VARIABLE;
+            case CONTAINING:
+                return GREMLIN_PRIMITIVE_CONTAINING_VARIABLE;
+            default:
+                throw new UnsupportedOperationException("Unsupported criteria type.");
+        }
+    }
 }
@@ -10,7 +10,9 @@ import com.microsoft.spring.data.gremlin.query.paramerter.GremlinParameterAccess
 import com.microsoft.spring.data.gremlin.query.paramerter.GremlinParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 public abstract class AbstractGremlinQuery implements RepositoryQuery {
 
@@ -25,19 +27,48 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
     protected abstract GremlinQuery createQuery(GremlinParameterAccessor accessor);
 
     protected boolean isDeleteQuery() {
-        // panli: always return false as only take care find in one PR.
         return false;
     }
 
+    protected boolean isCountQuery() {
+        return false;
+    }
+
+    protected boolean isExistsQuery() {
+        return false;
+    }
+
+    /**
+     * @return the max count of domains limited by query method like findTop10ByName, or null if not limited
+     */
+    @Nullable
+    protected Integer getMaxResults() {
+        return null;
+    }
+
     @Override
     public Object execute(@NonNull Object[] parameters) {
         final GremlinParameterAccessor accessor = new GremlinParametersParameterAccessor(this.method, parameters);
 
         final GremlinQuery query = this.createQuery(accessor);
         final ResultProcessor processor = method.getResultProcessor().withDynamicProjection(accessor);
-        final GremlinQueryExecution execution = this.getExecution();
+        final ReturnedType returnedType = processor.getReturnedType();
+        final GremlinQueryExecution execution = this.getExecution(accessor);
 
-        return execution.execute(query, processor.getReturnedType().getDomainType());
+        if (this.isDeleteQuery() || this.isCountQuery() || this.isExistsQuery() || !returnedType.isProjecting()) {
+            return execution.execute(query, returnedType.getDomainType());
+        }
+
+        query.project(returnedType.getInputProperties()); // Empty for open projection, fetch the whole element.
+
+        final Object result = execution.execute(query, returnedType.getDomainType());
+
+        if (returnedType.getReturnedType().isInterface()) {
+            return processor.processResult(result);
+        }
+
+        return processor.processResult(result, new GremlinDtoInstantiatingConverter(returnedType.getReturnedType(),
+                this.operations.getMappingConverter().getMappingContext()));
     }
 
     @Override
@@ -47,11 +78,22 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
     }
 
     @NonNull
-    private GremlinQueryExecution getExecution() {
+    private GremlinQueryExecution getExecution(@NonNull GremlinParameterAccessor accessor) {
         if (this.isDeleteQuery()) {
-            throw new UnsupportedOperationException("Not implemented yet");
-        } else {
+            return new GremlinQueryExecution.DeleteExecution(this.operations, this.method);
+        } else if (this.isCountQuery()) {
+            return new GremlinQueryExecution.CountExecution(this.operations);
+        } else if (this.isExistsQuery()) {
+            return new GremlinQueryExecution.ExistsExecution(this.operations);
+        } else if (this.method.isPageQuery()) {
+            return new GremlinQueryExecution.PagedExecution(this.operations, accessor.getPageable(),
+                    this.getMaxResults());
+        } else if (this.method.isStreamQuery()) {
+            return new GremlinQueryExecution.StreamExecution(this.operations);
+        } else if (this.method.isCollectionQuery() || this.method.isSliceQuery()) {
             return new GremlinQueryExecution.FindExecution(this.operations);
+        } else {
+            return new GremlinQueryExecution.SingleEntityExecution(this.operations);
         }
     }
 }
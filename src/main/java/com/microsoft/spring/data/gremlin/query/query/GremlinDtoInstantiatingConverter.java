@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentProperty;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.lang.NonNull;
+
+/**
+ * Convert the domain read from projected query to the DTO class projection, by the constructor of DTO and then the
+ * properties with the same names.
+ */
+final class GremlinDtoInstantiatingConverter implements Converter<Object, Object> {
+
+    private final Class<?> dtoType;
+    private final MappingContext<? extends PersistentEntity<?, GremlinPersistentProperty>, GremlinPersistentProperty>
+            context;
+    private final EntityInstantiator instantiator;
+
+    GremlinDtoInstantiatingConverter(@NonNull Class<?> dtoType, @NonNull MappingContext<? extends
+            PersistentEntity<?, GremlinPersistentProperty>, GremlinPersistentProperty> context) {
+        this.dtoType = dtoType;
+        this.context = context;
+        this.instantiator = new EntityInstantiators().getInstantiatorFor(context.getRequiredPersistentEntity(dtoType));
+    }
+
+    @Override
+    public Object convert(@NonNull Object source) {
+        if (this.dtoType.isInstance(source)) {
+            return source;
+        }
+
+        final PersistentEntity<?, GremlinPersistentProperty> sourceEntity =
+                this.context.getRequiredPersistentEntity(source.getClass());
+        final PersistentPropertyAccessor sourceAccessor = sourceEntity.getPropertyAccessor(source);
+        final PersistentEntity<?, GremlinPersistentProperty> targetEntity =
+                this.context.getRequiredPersistentEntity(this.dtoType);
+        final PreferredConstructor<?, GremlinPersistentProperty> constructor =
+                targetEntity.getPersistenceConstructor();
+
+        @SuppressWarnings({"rawtypes", "unchecked"}) final Object dto = this.instantiator.createInstance(targetEntity,
+                new ParameterValueProvider<GremlinPersistentProperty>() {
+                    @Override
+                    public <T> T getParameterValue(Parameter<T, GremlinPersistentProperty> parameter) {
+                        final String name = parameter.getName();
+                        @SuppressWarnings("unchecked") final T value = name == null ? null :
+                                (T) sourceAccessor.getProperty(sourceEntity.getRequiredPersistentProperty(name));
+
+                        return value;
+                    }
+                });
+        final PersistentPropertyAccessor targetAccessor = targetEntity.getPropertyAccessor(dto);
+
+        targetEntity.doWithProperties((GremlinPersistentProperty property) -> {
+            if (constructor != null && constructor.isConstructorParameter(property)) {
+                return;
+            }
+
+            final GremlinPersistentProperty sourceProperty = sourceEntity.getPersistentProperty(property.getName());
+
+            if (sourceProperty != null) {
+                targetAccessor.setProperty(property, sourceAccessor.getProperty(sourceProperty));
+            }
+        });
+
+        return dto;
+    }
+}
@@ -5,24 +5,157 @@
  */
 package com.microsoft.spring.data.gremlin.query.query;
 
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
 import com.microsoft.spring.data.gremlin.query.criteria.Criteria;
 import lombok.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 public class GremlinQuery {
 
+    /**
+     * The criteria of query, null means all the domains of given class.
+     */
     @Getter
     private final Criteria criteria;
 
+    /**
+     * The order of domains, executed as order().by() on server side.
+     */
+    @Getter
+    private Sort sort = Sort.unsorted();
+
+    /**
+     * The count of domains skipped on server side.
+     */
+    @Getter
+    private long offset;
+
+    /**
+     * The max count of domains returned from server side, null means no limit.
+     */
+    @Getter
+    private Integer limit;
+
+    /**
+     * Only the domains with id greater than it are queried, like the keyset of scan, null means from the beginning.
+     */
+    @Getter
+    private String after;
+
+    /**
+     * The property keys fetched for projection by valueMap() on server side, empty means the whole element.
+     */
+    @Getter
+    private List<String> projection = Collections.emptyList();
+
     @Setter(AccessLevel.PRIVATE)
     private QueryScriptGenerator generator;
 
+    /**
+     * The bindings of generated script, null means the values are inlined into script.
+     */
+    @Getter
+    @Setter
+    private GremlinScriptBindings scriptBindings;
+
+    public GremlinQuery() {
+        this.criteria = null;
+    }
+
     public GremlinQuery(@NonNull Criteria criteria) {
         this.criteria = criteria;
     }
 
+    public GremlinQuery with(@NonNull Sort sort) {
+        this.sort = this.sort.and(sort);
+
+        return this;
+    }
+
+    /**
+     * Skip the domains before the page and limit to page size, the sort of pageable should be taken by with(Sort).
+     */
+    public GremlinQuery page(@NonNull Pageable pageable) {
+        if (pageable.isPaged()) {
+            this.offset = pageable.getOffset();
+            this.limit(pageable.getPageSize());
+        }
+
+        return this;
+    }
+
+    /**
+     * Limit the count of domains returned, the smaller one is taken if already limited, like findTop10 with page.
+     */
+    public GremlinQuery limit(int limit) {
+        Assert.isTrue(limit >= 0, "limit should not be negative");
+
+        this.limit = this.limit == null ? limit : Math.min(this.limit, limit);
+
+        return this;
+    }
+
+    /**
+     * Query only the domains with id greater than given one, which should be sorted by id to resume a scan.
+     */
+    public GremlinQuery after(@NonNull String id) {
+        this.after = id;
+
+        return this;
+    }
+
+    /**
+     * Fetch only given property keys of vertex for projection, the id and label are always fetched.
+     */
+    public GremlinQuery project(@NonNull Collection<String> keys) {
+        this.projection = Collections.unmodifiableList(new ArrayList<>(keys));
+
+        return this;
+    }
+
+    private GremlinQuery copyUnpaged() {
+        final GremlinQuery query = this.criteria == null ? new GremlinQuery() : new GremlinQuery(this.criteria);
+
+        query.after = this.after;
+        query.projection = this.projection;
+
+        return query.with(this.sort);
+    }
+
+    /**
+     * Copy the criteria, keyset, projection and sort of this query to a new one with given offset and limit, like one
+     * chunk of the streamed domains.
+     */
+    public GremlinQuery slice(long offset, int limit) {
+        Assert.isTrue(offset >= 0, "offset should not be negative");
+
+        final GremlinQuery query = this.copyUnpaged();
+
+        query.offset = offset;
+
+        return query.limit(limit);
+    }
+
+    /**
+     * Copy this query to a new one, which can be changed without affecting this query. The generator and bindings
+     * are not copied, as they are set for each execution.
+     */
+    public GremlinQuery copy() {
+        final GremlinQuery query = this.copyUnpaged();
+
+        query.offset = this.offset;
+        query.limit = this.limit;
+
+        return query;
+    }
+
     public void setScriptGenerator(@NonNull QueryScriptGenerator generator) {
         this.setGenerator(generator);
     }
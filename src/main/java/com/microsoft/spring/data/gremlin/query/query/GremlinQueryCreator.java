@@ -15,7 +15,9 @@ import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 import java.util.*;
 
@@ -32,6 +34,19 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Crit
         map.put(Part.Type.BETWEEN, CriteriaType.BETWEEN);
         map.put(Part.Type.SIMPLE_PROPERTY, CriteriaType.IS_EQUAL);
         map.put(Part.Type.EXISTS, CriteriaType.EXISTS);
+        map.put(Part.Type.NEGATING_SIMPLE_PROPERTY, CriteriaType.IS_NOT_EQUAL);
+        map.put(Part.Type.GREATER_THAN, CriteriaType.GREATER_THAN);
+        map.put(Part.Type.GREATER_THAN_EQUAL, CriteriaType.GREATER_THAN_EQUAL);
+        map.put(Part.Type.LESS_THAN, CriteriaType.LESS_THAN);
+        map.put(Part.Type.LESS_THAN_EQUAL, CriteriaType.LESS_THAN_EQUAL);
+        map.put(Part.Type.IN, CriteriaType.IN);
+        map.put(Part.Type.NOT_IN, CriteriaType.NOT_IN);
+        map.put(Part.Type.IS_NULL, CriteriaType.IS_NULL);
+        map.put(Part.Type.IS_NOT_NULL, CriteriaType.IS_NOT_NULL);
+        map.put(Part.Type.TRUE, CriteriaType.IS_TRUE);
+        map.put(Part.Type.FALSE, CriteriaType.IS_FALSE);
+        map.put(Part.Type.STARTING_WITH, CriteriaType.STARTING_WITH);
+        map.put(Part.Type.CONTAINING, CriteriaType.CONTAINING);
 
         criteriaMap = Collections.unmodifiableMap(map);
     }
@@ -43,6 +58,27 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Crit
         this.mappingContext = mappingContext;
     }
 
+    /**
+     * The collection or array argument of In and NotIn is flattened to the values of criteria.
+     */
+    private static void addValue(@NonNull Part.Type type, @NonNull List<Object> values, @Nullable Object value) {
+        Assert.notNull(value, "the argument of query should not be null");
+
+        if (type != Part.Type.IN && type != Part.Type.NOT_IN) {
+            values.add(value);
+        } else if (value instanceof Collection) {
+            values.addAll((Collection<?>) value);
+        } else if (value.getClass().isArray()) {
+            values.addAll(CollectionUtils.arrayToList(value));
+        } else {
+            values.add(value);
+        }
+    }
+
+    /**
+     * Gremlin predicates compare strings by case, then IgnoreCase is rejected, and AllIgnoreCase is rejected on the
+     * String property, as it would match by case silently.
+     */
     @Override // Note (panli): side effect here, this method will change the iterator status of parameters.
     protected Criteria create(@NonNull Part part, @NonNull Iterator<Object> parameters) {
         final Part.Type type = part.getType();
@@ -51,11 +87,15 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Crit
 
         if (!criteriaMap.containsKey(type)) {
             throw new UnsupportedOperationException("Unsupported keyword: " + type.toString());
+        } else if (part.shouldIgnoreCase() == Part.IgnoreCaseType.ALWAYS
+                || (part.shouldIgnoreCase() == Part.IgnoreCaseType.WHEN_POSSIBLE
+                && part.getProperty().getLeafProperty().getType() == String.class)) {
+            throw new UnsupportedOperationException("Unsupported keyword IgnoreCase of property: " + subject);
         }
 
         for (int i = 0; i < part.getNumberOfArguments(); i++) {
             Assert.isTrue(parameters.hasNext(), "should not reach the end of iterator");
-            values.add(parameters.next());
+            addValue(type, values, parameters.next());
         }
 
         return Criteria.getUnaryInstance(criteriaMap.get(type), subject, values);
@@ -74,7 +114,9 @@ public class GremlinQueryCreator extends AbstractQueryCreator<GremlinQuery, Crit
     }
 
     @Override
-    protected GremlinQuery complete(@NonNull Criteria criteria, @NonNull Sort sort) {
-        return new GremlinQuery(criteria);
+    protected GremlinQuery complete(@Nullable Criteria criteria, @NonNull Sort sort) {
+        final GremlinQuery query = criteria == null ? new GremlinQuery() : new GremlinQuery(criteria);
+
+        return query.with(sort);
     }
 }
@@ -6,7 +6,13 @@
 package com.microsoft.spring.data.gremlin.query.query;
 
 import com.microsoft.spring.data.gremlin.query.GremlinOperations;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
 
 public interface GremlinQueryExecution {
     Object execute(GremlinQuery query, Class<?> type);
@@ -24,4 +30,136 @@ public interface GremlinQueryExecution {
             return this.operations.find(query, type);
         }
     }
+
+    /**
+     * Drop the domains on server side and return the count of them, or the list of them fetched before dropped if the
+     * query method returns collection.
+     */
+    final class DeleteExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+        private final GremlinQueryMethod method;
+
+        public DeleteExecution(@NonNull GremlinOperations operations, @NonNull GremlinQueryMethod method) {
+            this.operations = operations;
+            this.method = method;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> type) {
+            if (this.method.isCollectionQuery()) {
+                final List<?> domains = this.operations.find(query, type);
+
+                this.operations.delete(query, type);
+
+                return domains;
+            }
+
+            return this.operations.delete(query, type);
+        }
+    }
+
+    /**
+     * Count the domains on server side, no domain is fetched or mapped.
+     */
+    final class CountExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+
+        public CountExecution(@NonNull GremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> type) {
+            return this.operations.count(query, type);
+        }
+    }
+
+    /**
+     * Tell if any domain exists on server side, which stops at the first match.
+     */
+    final class ExistsExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+
+        public ExistsExecution(@NonNull GremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> type) {
+            return this.operations.exists(query, type);
+        }
+    }
+
+    /**
+     * Stream the domains chunk by chunk as consumed, the stream should be closed to stop fetching remaining chunks.
+     */
+    final class StreamExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+
+        public StreamExecution(@NonNull GremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> type) {
+            return this.operations.stream(query, type);
+        }
+    }
+
+    /**
+     * Return the only domain found or null, the query is limited to 2 to tell if more than one domain matches, which
+     * is not allowed unless the query is limited like findFirstByName.
+     */
+    final class SingleEntityExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+
+        public SingleEntityExecution(@NonNull GremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> type) {
+            final List<?> domains = this.operations.find(query.limit(2), type);
+
+            if (domains.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, domains.size());
+            }
+
+            return domains.isEmpty() ? null : domains.get(0);
+        }
+    }
+
+    /**
+     * Find the domains of given page, and count the total on server side only if it cannot be told by the page. The
+     * total is capped by the max results of query like findTop10ByName.
+     */
+    final class PagedExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+        private final Pageable pageable;
+        private final Integer maxResults;
+
+        public PagedExecution(@NonNull GremlinOperations operations, @NonNull Pageable pageable,
+                              @Nullable Integer maxResults) {
+            this.operations = operations;
+            this.pageable = pageable;
+            this.maxResults = maxResults;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> type) {
+            final List<?> domains = this.operations.find(query, type);
+
+            return PageableExecutionUtils.getPage(domains, this.pageable, () -> {
+                final long total = this.operations.count(query, type);
+
+                return this.maxResults == null ? total : Math.min(total, this.maxResults);
+            });
+        }
+    }
 }
@@ -27,14 +27,35 @@ public class PartTreeGremlinQuery extends AbstractGremlinQuery {
         this.mappingContext = operations.getMappingConverter().getMappingContext();
     }
 
+    @Override
+    protected boolean isDeleteQuery() {
+        return this.partTree.isDelete();
+    }
+
+    @Override
+    protected boolean isCountQuery() {
+        return this.partTree.isCountProjection();
+    }
+
+    @Override
+    protected boolean isExistsQuery() {
+        return this.partTree.isExistsProjection();
+    }
+
+    @Override
+    protected Integer getMaxResults() {
+        return this.partTree.isLimiting() ? this.partTree.getMaxResults() : null;
+    }
+
     @Override
     protected GremlinQuery createQuery(@NonNull GremlinParameterAccessor accessor) {
         final GremlinQueryCreator creator = new GremlinQueryCreator(this.partTree, accessor, this.mappingContext);
+        final GremlinQuery query = creator.createQuery().page(accessor.getPageable());
 
         if (this.partTree.isLimiting()) {
-            throw new UnsupportedOperationException("Limitation is not supported yet");
+            query.limit(this.partTree.getMaxResults());
         }
 
-        return creator.createQuery();
+        return query;
     }
 }
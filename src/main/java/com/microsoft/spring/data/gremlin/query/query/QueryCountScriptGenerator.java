@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import lombok.NoArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_COUNT;
+
+/**
+ * Generate script counting the domains matched by criteria on server side, the sort, offset and limit of query are
+ * ignored, like the total count of Page.
+ */
+@NoArgsConstructor
+public class QueryCountScriptGenerator extends QueryFindScriptGenerator {
+
+    @Override
+    protected List<String> generateScript(@NonNull GremlinQuery query) {
+        final List<String> scriptList = super.generateFilterScript(query);
+
+        scriptList.add(GREMLIN_PRIMITIVE_COUNT);
+
+        return scriptList;
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import lombok.NoArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_COUNT;
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_SIDE_EFFECT_DROP;
+
+/**
+ * Generate script dropping the domains matched by criteria on server side, like
+ * g.V().has('label', 'person').where(...).limit(100).sideEffect(drop()).count(), the count of dropped domains is
+ * returned instead of elements.
+ */
+@NoArgsConstructor
+public class QueryDeleteScriptGenerator extends QueryFindScriptGenerator {
+
+    @Override
+    protected List<String> generateScript(@NonNull GremlinQuery query) {
+        final List<String> scriptList = super.generateScript(query);
+
+        scriptList.add(GREMLIN_PRIMITIVE_SIDE_EFFECT_DROP);
+        scriptList.add(GREMLIN_PRIMITIVE_COUNT);
+
+        return scriptList;
+    }
+}
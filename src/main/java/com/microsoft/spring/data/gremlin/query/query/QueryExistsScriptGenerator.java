@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import lombok.NoArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_COUNT;
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_LIMIT_VARIABLE;
+
+/**
+ * Generate script telling if any domain matched by criteria on server side, the server stops at the first match by
+ * limit(1) and returns count of 0 or 1 instead of elements.
+ */
+@NoArgsConstructor
+public class QueryExistsScriptGenerator extends QueryFindScriptGenerator {
+
+    @Override
+    protected List<String> generateScript(@NonNull GremlinQuery query) {
+        final List<String> scriptList = super.generateFilterScript(query);
+
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_LIMIT_VARIABLE, 1));
+        scriptList.add(GREMLIN_PRIMITIVE_COUNT);
+
+        return scriptList;
+    }
+}
@@ -7,17 +7,23 @@ package com.microsoft.spring.data.gremlin.query.query;
 
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
 import com.microsoft.spring.data.gremlin.conversion.script.AbstractGremlinScriptLiteral;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptor;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptorRegistry;
 import com.microsoft.spring.data.gremlin.query.criteria.Criteria;
 import com.microsoft.spring.data.gremlin.query.criteria.CriteriaType;
-import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.microsoft.spring.data.gremlin.common.Constants.*;
 
@@ -25,12 +31,15 @@ import static com.microsoft.spring.data.gremlin.common.Constants.*;
 public class QueryFindScriptGenerator implements QueryScriptGenerator {
 
     @Setter(AccessLevel.PRIVATE)
-    private GremlinEntityInformation information;
+    private GremlinEntityDescriptor descriptor;
+
+    @Setter(AccessLevel.PRIVATE)
+    private GremlinScriptBindings bindings;
 
     private String getCriteriaSubject(@NonNull Criteria criteria) {
         String subject = criteria.getSubject();
 
-        if (subject.equals(this.information.getIdField().getName())) {
+        if (subject.equals(this.descriptor.getIdField().getName())) {
             subject = PROPERTY_ID; // If subject is @Id/id field, use id property in database.
         }
 
@@ -39,24 +48,129 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
 
     private String generateIsEqual(@NonNull Criteria criteria) {
         final String subject = this.getCriteriaSubject(criteria);
-        final String content = AbstractGremlinScriptLiteral.generateHas(subject, criteria.getSubValues().get(0));
+        final String content = AbstractGremlinScriptLiteral.generateHas(subject, criteria.getSubValues().get(0),
+                this.bindings);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, content);
     }
 
     /**
-     * Generate script with only one subject and no subValue, like findByActiveExists().
+     * Generate script with only one subject and no subValue, like findByActiveExists() or findByActiveTrue().
      *
      * @param criteria given query represent a query subject
+     * @param value    the boolean value of subject
      * @return simple script with keyword from criteria type
      */
-    private String generateEmptyScript(@NonNull Criteria criteria) {
+    private String generateBooleanScript(@NonNull Criteria criteria, boolean value) {
         final String subject = this.getCriteriaSubject(criteria);
-        final String has = AbstractGremlinScriptLiteral.generateHas(subject, true);
+        final String has = AbstractGremlinScriptLiteral.generateHas(subject, value, this.bindings);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, has);
     }
 
+    private String generateKey(@NonNull String subject) {
+        if (this.bindings == null) {
+            return String.format(GREMLIN_PRIMITIVE_STRING, subject);
+        }
+
+        return this.bindings.bindNext(GREMLIN_BINDING_KEY_PREFIX, subject);
+    }
+
+    private String generateValue(@NonNull Object value) {
+        final Object stored = GremlinUtils.toStoredValue(value);
+
+        if (this.bindings != null) {
+            return this.bindings.bindNext(GREMLIN_BINDING_VALUE_PREFIX, stored);
+        } else if (stored instanceof String) {
+            return String.format(GREMLIN_PRIMITIVE_STRING, stored);
+        } else if (stored instanceof Number) {
+            return GremlinUtils.toNumberLiteral((Number) stored);
+        }
+
+        return String.valueOf(stored);
+    }
+
+    private String generateHasPredicate(@NonNull String key, @NonNull String predicate) {
+        return String.format(GREMLIN_PRIMITIVE_WHERE, String.format(GREMLIN_PRIMITIVE_HAS_VARIABLE, key, predicate));
+    }
+
+    /**
+     * Generate script comparing subject with subValues by the predicate of criteria type, like
+     * findByAgeGreaterThan(int age) or findByNameIn(Collection names). The Containing requires TextP of gremlin
+     * server 3.4 or later.
+     *
+     * @param criteria given query represent a query subject
+     * @return simple script with predicate from criteria type
+     */
+    private String generatePredicateScript(@NonNull Criteria criteria) {
+        final String key = this.generateKey(this.getCriteriaSubject(criteria));
+        final String values = criteria.getSubValues().stream().map(this::generateValue)
+                .collect(Collectors.joining(GREMLIN_PRIMITIVE_ARGUMENT_SEPARATOR));
+        final String predicate = String.format(CriteriaType.criteriaTypeToPredicate(criteria.getType()), values);
+
+        return this.generateHasPredicate(key, predicate);
+    }
+
+    /**
+     * Generate script of prefix by the range of strings starting with it, like findByNameStartingWith("ab") to
+     * has('name', between('ab', 'ac')), which requires no TextP of gremlin server.
+     *
+     * @param criteria given query represent a query subject
+     * @return simple script of string range
+     */
+    private String generateStartingWithScript(@NonNull Criteria criteria) {
+        final String key = this.generateKey(this.getCriteriaSubject(criteria));
+        final String prefix = criteria.getSubValues().get(0).toString();
+
+        if (prefix.isEmpty()) {
+            return String.format(GREMLIN_PRIMITIVE_WHERE, String.format(GREMLIN_PRIMITIVE_HAS_KEY_VARIABLE, key));
+        }
+
+        final char last = prefix.charAt(prefix.length() - 1);
+
+        if (last == Character.MAX_VALUE) {
+            return this.generateHasPredicate(key, String.format(GREMLIN_PRIMITIVE_GTE_VARIABLE,
+                    this.generateValue(prefix)));
+        }
+
+        final String upper = prefix.substring(0, prefix.length() - 1) + (char) (last + 1);
+
+        return this.generateHasPredicate(key, String.format(GREMLIN_PRIMITIVE_BETWEEN_VARIABLE,
+                this.generateValue(prefix), this.generateValue(upper)));
+    }
+
+    /**
+     * Generate script of null check, like findByNameIsNull(). The null value is stored as json string null by the
+     * converter, or absent if the property is removed, then both are matched as null.
+     *
+     * @param criteria given query represent a query subject
+     * @return simple script of null check
+     */
+    private String generateNullScript(@NonNull Criteria criteria) {
+        final String subject = this.getCriteriaSubject(criteria);
+
+        if (criteria.getType() == CriteriaType.IS_NOT_NULL) {
+            return this.generateHasPredicate(this.generateKey(subject), String.format(GREMLIN_PRIMITIVE_NEQ_VARIABLE,
+                    this.generateValue(PROPERTY_VALUE_NULL)));
+        }
+
+        final String absent = String.format(GREMLIN_PRIMITIVE_WHERE,
+                String.format(GREMLIN_PRIMITIVE_HAS_NOT_VARIABLE, this.generateKey(subject)));
+        final String nullValue = this.generateHasPredicate(this.generateKey(subject), this.generateValue(
+                PROPERTY_VALUE_NULL));
+
+        return this.generateCombinedScript(absent, nullValue, CriteriaType.OR);
+    }
+
+    private String generateValues(@NonNull String subject) {
+        if (this.bindings == null) {
+            return String.format(GREMLIN_PRIMITIVE_VALUES, subject);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_VALUES_VARIABLE,
+                this.bindings.bindNext(GREMLIN_BINDING_KEY_PREFIX, subject));
+    }
+
     /**
      * Generate script with only one subject and only one subValue, like findByCreateAtBefore(Date start).
      *
@@ -68,30 +182,34 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
         final String subject = this.getCriteriaSubject(criteria);
         final long milliSeconds = GremlinUtils.timeToMilliSeconds(criteria.getSubValues().get(0));
 
-        final String values = String.format(GREMLIN_PRIMITIVE_VALUES, subject);
-        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), milliSeconds);
+        final String values = this.generateValues(subject);
+        final String query;
+
+        if (this.bindings == null) {
+            query = String.format(CriteriaType.criteriaTypeToGremlin(type), milliSeconds);
+        } else {
+            query = String.format(CriteriaType.criteriaTypeToGremlinVariable(type),
+                    this.bindings.bindNext(GREMLIN_BINDING_VALUE_PREFIX, milliSeconds));
+        }
         final String content = String.join(GREMLIN_PRIMITIVE_INVOKE, values, query);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, content);
     }
 
     /**
-     * Generate script with only one subject and two subValue, like findByCreateAtBetween(Date start, Date end).
+     * Generate script with only one subject and two subValue, like findByCreateAtBetween(Date start, Date end), the
+     * values are compared as they are stored.
      *
      * @param criteria given query represent a query subject
      * @return simple script with keyword from criteria type
      */
-    private String generateDoubleScript(Criteria criteria) {
-        final CriteriaType type = criteria.getType();
-        final String subject = this.getCriteriaSubject(criteria);
-        final long start = GremlinUtils.toPrimitiveLong(criteria.getSubValues().get(0));
-        final long end = GremlinUtils.toPrimitiveLong(criteria.getSubValues().get(1));
+    private String generateDoubleScript(@NonNull Criteria criteria) {
+        final String key = this.generateKey(this.getCriteriaSubject(criteria));
 
-        final String values = String.format(GREMLIN_PRIMITIVE_VALUES, subject);
-        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), start, end);
-        final String content = String.join(GREMLIN_PRIMITIVE_INVOKE, values, query);
+        final String start = this.generateValue(criteria.getSubValues().get(0));
+        final String end = this.generateValue(criteria.getSubValues().get(1));
 
-        return String.format(GREMLIN_PRIMITIVE_WHERE, content);
+        return this.generateHasPredicate(key, String.format(GREMLIN_PRIMITIVE_BETWEEN_VARIABLE, start, end));
     }
 
     /**
@@ -128,41 +246,185 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
             case BETWEEN:
                 return this.generateDoubleScript(criteria);
             case EXISTS:
-                return this.generateEmptyScript(criteria);
+            case IS_TRUE:
+                return this.generateBooleanScript(criteria, true);
+            case IS_FALSE:
+                return this.generateBooleanScript(criteria, false);
+            case IS_NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_EQUAL:
+            case LESS_THAN:
+            case LESS_THAN_EQUAL:
+            case IN:
+            case NOT_IN:
+            case CONTAINING:
+                return this.generatePredicateScript(criteria);
+            case STARTING_WITH:
+                return this.generateStartingWithScript(criteria);
+            case IS_NULL:
+            case IS_NOT_NULL:
+                return this.generateNullScript(criteria);
             default:
                 throw new UnsupportedOperationException("unsupported Criteria type");
         }
     }
 
-    private List<String> generateScript(@NonNull GremlinQuery query) {
+    /**
+     * Generate the steps to filter domains of given class by criteria and keyset, without order or range.
+     *
+     * @param query given query with criteria
+     * @return the steps starting from graph
+     */
+    protected List<String> generateFilterScript(@NonNull GremlinQuery query) {
         final Criteria criteria = query.getCriteria();
         final List<String> scriptList = new ArrayList<>();
 
         scriptList.add(GREMLIN_PRIMITIVE_GRAPH);
 
-        if (this.information.isEntityVertex()) {
+        if (this.descriptor.isEntityVertex()) {
             scriptList.add(GREMLIN_PRIMITIVE_VERTEX_ALL);
-        } else if (this.information.isEntityEdge()) {
+        } else if (this.descriptor.isEntityEdge()) {
             scriptList.add(GREMLIN_PRIMITIVE_EDGE_ALL);
         } else {
             throw new UnsupportedOperationException("Cannot generate script from graph entity");
         }
 
-        scriptList.add(String.format(GREMLIN_PRIMITIVE_HAS_STRING, PROPERTY_LABEL, this.information.getEntityLabel()));
-        scriptList.add(this.generateScriptTraversal(criteria));
+        scriptList.add(AbstractGremlinScriptLiteral.generateHas(PROPERTY_LABEL, this.descriptor.getEntityLabel(),
+                this.bindings));
+
+        if (criteria != null) {
+            scriptList.add(this.generateScriptTraversal(criteria));
+        }
+
+        if (query.getAfter() != null) {
+            scriptList.add(this.generateAfterScript(query.getAfter()));
+        }
+
+        return scriptList;
+    }
+
+    /**
+     * Generate script of keyset, like has(id, gt('lastId')), then the skipped domains are not walked by server.
+     *
+     * @param id the last id scanned
+     * @return keyset script
+     */
+    private String generateAfterScript(@NonNull String id) {
+        if (this.bindings == null) {
+            return String.format(GREMLIN_PRIMITIVE_HAS_GT_KEYWORD, PROPERTY_ID, id);
+        }
+
+        final String variable = this.bindings.bindNext(GREMLIN_BINDING_VALUE_PREFIX, id);
+
+        return String.format(GREMLIN_PRIMITIVE_HAS_GT_VARIABLE, PROPERTY_ID, variable);
+    }
+
+    private String generateNumber(long value) {
+        if (this.bindings == null) {
+            return String.valueOf(value);
+        }
+
+        return this.bindings.bindNext(GREMLIN_BINDING_VALUE_PREFIX, value);
+    }
+
+    /**
+     * Generate order step with one by() modulator for each property of sort, like order().by('name', incr).
+     *
+     * @param sort given sort of query
+     * @return order script
+     */
+    private String generateOrderScript(@NonNull Sort sort) {
+        final List<String> steps = new ArrayList<>();
+
+        steps.add(GREMLIN_PRIMITIVE_ORDER);
+
+        for (final Sort.Order order : sort) {
+            final String direction = order.isAscending() ? GREMLIN_PRIMITIVE_INCR : GREMLIN_PRIMITIVE_DECR;
+            final String property = order.getProperty();
+
+            if (property.equals(this.descriptor.getIdField().getName())) {
+                steps.add(String.format(GREMLIN_PRIMITIVE_BY_VARIABLE, PROPERTY_ID, direction));
+            } else if (this.bindings == null) {
+                steps.add(String.format(GREMLIN_PRIMITIVE_BY, property, direction));
+            } else {
+                final String key = this.bindings.bindNext(GREMLIN_BINDING_KEY_PREFIX, property);
+
+                steps.add(String.format(GREMLIN_PRIMITIVE_BY_VARIABLE, key, direction));
+            }
+        }
+
+        return String.join(GREMLIN_PRIMITIVE_INVOKE, steps);
+    }
+
+    /**
+     * Generate range step for offset and limit of query, or limit step if no domains skipped.
+     *
+     * @param offset count of domains skipped
+     * @param limit  max count of domains, null means no limit
+     * @return range script
+     */
+    private String generateRangeScript(long offset, @Nullable Integer limit) {
+        if (offset == 0) {
+            Assert.notNull(limit, "limit should not be null without offset");
+
+            return String.format(GREMLIN_PRIMITIVE_LIMIT_VARIABLE, this.generateNumber(limit));
+        }
+
+        final long high = limit == null ? -1 : offset + limit;
+
+        return String.format(GREMLIN_PRIMITIVE_RANGE_VARIABLE, this.generateNumber(offset),
+                this.generateNumber(high));
+    }
+
+    /**
+     * Generate valueMap step with id, label and the projected keys only, like valueMap(true, 'name').
+     *
+     * @param keys the projected property keys
+     * @return projection script
+     */
+    private String generateProjectionScript(@NonNull List<String> keys) {
+        final List<String> values = keys.stream()
+                .map(k -> this.bindings == null ? String.format(GREMLIN_PRIMITIVE_STRING, k) :
+                        this.bindings.bindNext(GREMLIN_BINDING_KEY_PREFIX, k))
+                .collect(Collectors.toList());
+
+        return String.format(GREMLIN_PRIMITIVE_VALUE_MAP, String.join(GREMLIN_PRIMITIVE_ARGUMENT_SEPARATOR, values));
+    }
+
+    /**
+     * Generate script of find, the sort, offset, limit and projection of query are pushed down to gremlin server.
+     * The projection of edge is ignored, as the whole edge is required to find its vertices.
+     *
+     * @param query given query
+     * @return the steps starting from graph
+     */
+    protected List<String> generateScript(@NonNull GremlinQuery query) {
+        final List<String> scriptList = this.generateFilterScript(query);
+
+        if (query.getSort().isSorted()) {
+            scriptList.add(this.generateOrderScript(query.getSort()));
+        }
+
+        if (query.getOffset() > 0 || query.getLimit() != null) {
+            scriptList.add(this.generateRangeScript(query.getOffset(), query.getLimit()));
+        }
+
+        if (!query.getProjection().isEmpty() && this.descriptor.isEntityVertex()) {
+            scriptList.add(this.generateProjectionScript(query.getProjection()));
+        }
 
         return scriptList;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> List<String> generate(@NonNull GremlinQuery query, @NonNull Class<T> domainClass) {
 
-        this.setInformation(new GremlinEntityInformation(domainClass));
+        this.setDescriptor(GremlinEntityDescriptorRegistry.getDescriptor(domainClass));
+        this.setBindings(query.getScriptBindings());
 
         final List<String> scriptList = new ArrayList<>(this.generateScript(query));
 
-        return Collections.singletonList(String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList));
+        return Collections.singletonList(AbstractGremlinScriptLiteral.completeScript(scriptList, this.bindings));
     }
 }
 
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentProperty;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinOperations;
+import com.microsoft.spring.data.gremlin.query.paramerter.GremlinParameterAccessor;
+import com.microsoft.spring.data.gremlin.query.paramerter.GremlinParametersParameterAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Derived find query for reactive repository, return Flux of domains, or Mono of the first domain. The countBy,
+ * existsBy and deleteBy queries return Mono of the count, existence or dropped count computed on server side.
+ */
+public class ReactivePartTreeGremlinQuery implements RepositoryQuery {
+
+    private final GremlinQueryMethod method;
+    private final ReactiveGremlinOperations operations;
+    private final PartTree partTree;
+    private final MappingContext<?, GremlinPersistentProperty> mappingContext;
+
+    public ReactivePartTreeGremlinQuery(@NonNull GremlinQueryMethod method,
+                                        @NonNull ReactiveGremlinOperations operations) {
+        this.method = method;
+        this.operations = operations;
+        this.partTree = new PartTree(method.getName(), method.getResultProcessor().getReturnedType().getDomainType());
+        this.mappingContext = operations.getMappingConverter().getMappingContext();
+    }
+
+    @Override
+    public Object execute(@NonNull Object[] parameters) {
+        final GremlinParameterAccessor accessor = new GremlinParametersParameterAccessor(this.method, parameters);
+        final GremlinQueryCreator creator = new GremlinQueryCreator(this.partTree, accessor, this.mappingContext);
+        final GremlinQuery query = creator.createQuery().page(accessor.getPageable());
+
+        if (this.partTree.isLimiting()) {
+            query.limit(this.partTree.getMaxResults());
+        }
+
+        final Class<?> domainClass = this.method.getEntityInformation().getJavaType();
+
+        if (this.partTree.isDelete()) {
+            return this.operations.delete(query, domainClass);
+        } else if (this.partTree.isCountProjection()) {
+            return this.operations.count(query, domainClass);
+        } else if (this.partTree.isExistsProjection()) {
+            return this.operations.exists(query, domainClass);
+        }
+
+        final ResultProcessor processor = this.method.getResultProcessor().withDynamicProjection(accessor);
+        final ReturnedType returnedType = processor.getReturnedType();
+        final Flux<?> results;
+
+        if (!returnedType.isProjecting()) {
+            results = this.operations.find(query, returnedType.getDomainType());
+        } else if (returnedType.getReturnedType().isInterface()) {
+            query.project(returnedType.getInputProperties());
+            results = this.operations.find(query, returnedType.getDomainType()).map(processor::processResult);
+        } else {
+            final GremlinDtoInstantiatingConverter converter = new GremlinDtoInstantiatingConverter(
+                    returnedType.getReturnedType(), this.operations.getMappingConverter().getMappingContext());
+
+            query.project(returnedType.getInputProperties());
+            results = this.operations.find(query, returnedType.getDomainType())
+                    .map(domain -> processor.processResult(domain, converter));
+        }
+
+        if (Mono.class.isAssignableFrom(this.method.getReturnType().getType())) {
+            return results.next();
+        }
+
+        return results;
+    }
+
+    @Override
+    @NonNull
+    public GremlinQueryMethod getQueryMethod() {
+        return this.method;
+    }
+}
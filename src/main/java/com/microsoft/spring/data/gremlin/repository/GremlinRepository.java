@@ -6,13 +6,16 @@
 package com.microsoft.spring.data.gremlin.repository;
 
 import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
-import org.springframework.data.repository.CrudRepository;
+import com.microsoft.spring.data.gremlin.query.ScanCursor;
+import com.microsoft.spring.data.gremlin.query.ScanSlice;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 import java.io.Serializable;
+import java.util.stream.Stream;
 
 @NoRepositoryBean
-public interface GremlinRepository<T, ID extends Serializable> extends CrudRepository<T, ID> {
+public interface GremlinRepository<T, ID extends Serializable> extends PagingAndSortingRepository<T, ID> {
 
     Iterable<T> findAll(Class<T> domainClass);
 
@@ -23,4 +26,22 @@ public interface GremlinRepository<T, ID extends Serializable> extends CrudRepos
     long vertexCount();
 
     long edgeCount();
+
+    /**
+     * Stream all the domains of repository entity, which are fetched in chunks as consumed. The stream should be
+     * closed after use, like try-with-resources.
+     *
+     * @return the stream of domains
+     */
+    Stream<T> streamAll();
+
+    /**
+     * Scan the domains of repository entity ordered by id after the cursor, the cursor of returned slice resumes the
+     * scan, like ScanCursor.fromToken(slice.getCursor().toToken()).
+     *
+     * @param after the cursor to scan after, null means from the beginning
+     * @param size  the max count of domains in slice
+     * @return the slice of domains
+     */
+    ScanSlice<T> scan(ScanCursor after, int size);
 }
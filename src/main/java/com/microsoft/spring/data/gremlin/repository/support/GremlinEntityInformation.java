@@ -5,14 +5,11 @@
  */
 package com.microsoft.spring.data.gremlin.repository.support;
 
-import com.microsoft.spring.data.gremlin.annotation.Edge;
-import com.microsoft.spring.data.gremlin.annotation.Graph;
-import com.microsoft.spring.data.gremlin.annotation.Vertex;
 import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
-import com.microsoft.spring.data.gremlin.common.GremlinUtils;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceSimpleFactory;
-import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptor;
+import com.microsoft.spring.data.gremlin.mapping.GremlinEntityDescriptorRegistry;
 import org.springframework.data.repository.core.support.AbstractEntityInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -20,26 +17,29 @@ import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
 
+/**
+ * The reflection metadata is taken from {@link GremlinEntityDescriptorRegistry}, only the {@link GremlinSource}
+ * is created for each instance, as the source is stateful.
+ */
 public class GremlinEntityInformation<T, ID> extends AbstractEntityInformation<T, ID> {
 
-    private Field id;
-    private String entityLabel;
-    private GremlinEntityType entityType;
-    private GremlinSource gremlinSource;
+    private final GremlinEntityDescriptor descriptor;
+    private final GremlinSource gremlinSource;
 
     public GremlinEntityInformation(@NonNull Class<T> domainClass) {
         super(domainClass);
 
-        this.id = this.getIdField(domainClass);
-        ReflectionUtils.makeAccessible(this.id);
-
-        this.entityType = this.getGremlinEntityType(domainClass); // The other fields getter may depend on type
-        this.entityLabel = this.getEntityLabel(domainClass);
+        this.descriptor = GremlinEntityDescriptorRegistry.getDescriptor(domainClass);
         this.gremlinSource = this.createGremlinSource();
     }
 
+    @NonNull
+    public GremlinEntityDescriptor getDescriptor() {
+        return this.descriptor;
+    }
+
     public GremlinEntityType getEntityType() {
-        return this.entityType;
+        return this.descriptor.getEntityType();
     }
 
     public GremlinSource getGremlinSource() {
@@ -47,25 +47,25 @@ public class GremlinEntityInformation<T, ID> extends AbstractEntityInformation<T
     }
 
     public boolean isEntityEdge() {
-        return this.getEntityType() == GremlinEntityType.EDGE;
+        return this.descriptor.isEntityEdge();
     }
 
     public boolean isEntityVertex() {
-        return this.getEntityType() == GremlinEntityType.VERTEX;
+        return this.descriptor.isEntityVertex();
     }
 
     public boolean isEntityGraph() {
-        return this.getEntityType() == GremlinEntityType.GRAPH;
+        return this.descriptor.isEntityGraph();
     }
 
     @NonNull
     public String getEntityLabel() {
-        return this.entityLabel;
+        return this.descriptor.getEntityLabel();
     }
 
     @NonNull
     public Field getIdField() {
-        return this.id;
+        return this.descriptor.getIdField();
     }
 
     @Override
@@ -78,74 +78,12 @@ public class GremlinEntityInformation<T, ID> extends AbstractEntityInformation<T
 
     @Override
     public Class<ID> getIdType() {
-        @SuppressWarnings("unchecked") final Class<ID> idClass = (Class<ID>) this.id.getType();
+        @SuppressWarnings("unchecked") final Class<ID> idClass = (Class<ID>) this.getIdField().getType();
 
         return idClass;
     }
 
-    @NonNull
-    private Field getIdField(@NonNull Class<T> domainClass) {
-        return GremlinUtils.getIdField(domainClass);
-    }
-
-    private GremlinEntityType getGremlinEntityType(@NonNull Class<?> domainClass) {
-        final Vertex vertexAnnotation = domainClass.getAnnotation(Vertex.class);
-
-        if (vertexAnnotation != null) {
-            return GremlinEntityType.VERTEX;
-        }
-
-        final Edge edgeAnnotation = domainClass.getAnnotation(Edge.class);
-
-        if (edgeAnnotation != null) {
-            return GremlinEntityType.EDGE;
-        }
-
-        final Graph graphAnnotation = domainClass.getAnnotation(Graph.class);
-
-        if (graphAnnotation != null) {
-            return GremlinEntityType.GRAPH;
-        }
-
-        throw new GremlinUnexpectedEntityTypeException("cannot not to identify gremlin entity type");
-    }
-
-    private String getEntityLabel(@NonNull Class<?> domainClass) {
-        final String label;
-
-        switch (this.entityType) {
-            case VERTEX:
-                final Vertex vertexAnnotation = domainClass.getAnnotation(Vertex.class);
-
-                if (vertexAnnotation == null || vertexAnnotation.label().isEmpty()) {
-                    label = domainClass.getSimpleName();
-                } else {
-                    label = vertexAnnotation.label();
-                }
-                break;
-            case EDGE:
-                final Edge edgeAnnotation = domainClass.getAnnotation(Edge.class);
-
-                if (edgeAnnotation == null || edgeAnnotation.label().isEmpty()) {
-                    label = domainClass.getSimpleName();
-                } else {
-                    label = edgeAnnotation.label();
-                }
-                break;
-            case GRAPH:
-                label = null;
-                break;
-            case UNKNOWN:
-                // fallthrough
-            default:
-                throw new GremlinUnexpectedEntityTypeException("Unexpected gremlin entity type");
-        }
-
-        return label;
-    }
-
     private GremlinSource createGremlinSource() {
         return GremlinSourceSimpleFactory.createGremlinSource(getIdField(), getEntityLabel(), getEntityType());
     }
 }
-
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.support;
+
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinOperations;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQueryMethod;
+import com.microsoft.spring.data.gremlin.query.query.ReactivePartTreeGremlinQuery;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+public class ReactiveGremlinRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+    private final ReactiveGremlinOperations operations;
+
+    public ReactiveGremlinRepositoryFactory(@NonNull ReactiveGremlinOperations operations) {
+        this.operations = operations;
+    }
+
+    @Override
+    protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+        return SimpleReactiveGremlinRepository.class;
+    }
+
+    @Override
+    protected Object getTargetRepository(RepositoryInformation information) {
+        final EntityInformation<?, Serializable> entityInfo = this.getEntityInformation(information.getDomainType());
+
+        return getTargetRepositoryViaReflection(information, entityInfo, this.operations);
+    }
+
+    @Override
+    public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+        return new GremlinEntityInformation<>(domainClass);
+    }
+
+    @Override
+    protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
+                                                                    EvaluationContextProvider provider) {
+        return Optional.of(new ReactiveGremlinQueryLookupStrategy(this.operations));
+    }
+
+    private static class ReactiveGremlinQueryLookupStrategy implements QueryLookupStrategy {
+
+        private final ReactiveGremlinOperations operations;
+
+        public ReactiveGremlinQueryLookupStrategy(@NonNull ReactiveGremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public RepositoryQuery resolveQuery(@NonNull Method method, RepositoryMetadata metadata,
+                                            ProjectionFactory factory, NamedQueries namedQueries) {
+            final GremlinQueryMethod queryMethod = new GremlinQueryMethod(method, metadata, factory);
+
+            Assert.notNull(this.operations, "operations should not be null");
+
+            if (queryMethod.hasAnnotatedQuery() || namedQueries.hasQuery(queryMethod.getNamedQueryName())) {
+                throw new UnsupportedOperationException("String based query is not supported by reactive repository");
+            }
+
+            return new ReactivePartTreeGremlinQuery(queryMethod, this.operations);
+        }
+    }
+}
@@ -7,14 +7,23 @@ package com.microsoft.spring.data.gremlin.repository.support;
 
 import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
 import com.microsoft.spring.data.gremlin.query.GremlinOperations;
+import com.microsoft.spring.data.gremlin.query.ScanCursor;
+import com.microsoft.spring.data.gremlin.query.ScanSlice;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
 import com.microsoft.spring.data.gremlin.repository.GremlinRepository;
 import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class SimpleGremlinRepository<T, ID extends Serializable> implements GremlinRepository<T, ID> {
 
@@ -44,7 +53,7 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     @Override
     public <S extends T> Iterable<S> saveAll(@NonNull Iterable<S> domains) {
-        domains.forEach(this::save);
+        this.operations.saveAll(domains);
 
         return domains;
     }
@@ -60,13 +69,51 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
         throw new UnsupportedOperationException("findAll of Graph is not supported");
     }
 
+    /**
+     * The domains are sorted on server side by order().by() of each sort property.
+     */
     @Override
-    public List<T> findAllById(@NonNull Iterable<ID> ids) {
-        final List<T> results = new ArrayList<>();
+    public Iterable<T> findAll(@NonNull Sort sort) {
+        if (this.information.isEntityGraph()) {
+            throw new UnsupportedOperationException("findAll of Graph is not supported");
+        }
+
+        return this.operations.find(new GremlinQuery().with(sort), this.information.getJavaType());
+    }
+
+    /**
+     * Only the domains of given page are returned by range() on server side, the total count is queried only if it
+     * cannot be told by the page.
+     */
+    @Override
+    public Page<T> findAll(@NonNull Pageable pageable) {
+        if (this.information.isEntityGraph()) {
+            throw new UnsupportedOperationException("findAll of Graph is not supported");
+        }
 
-        ids.forEach(id -> this.findById(id).ifPresent(results::add));
+        final GremlinQuery query = new GremlinQuery().with(pageable.getSort()).page(pageable);
+        final List<T> domains = this.operations.find(query, this.information.getJavaType());
 
-        return results;
+        return PageableExecutionUtils.getPage(domains, pageable, this::count);
+    }
+
+    @Override
+    public Stream<T> streamAll() {
+        if (this.information.isEntityGraph()) {
+            throw new UnsupportedOperationException("streamAll of Graph is not supported");
+        }
+
+        return this.operations.stream(new GremlinQuery(), this.information.getJavaType());
+    }
+
+    @Override
+    public ScanSlice<T> scan(@Nullable ScanCursor after, int size) {
+        return this.operations.scan(this.information.getJavaType(), after, size);
+    }
+
+    @Override
+    public List<T> findAllById(@NonNull Iterable<ID> ids) {
+        return this.operations.findByIds(ids, this.information.getJavaType());
     }
 
     @Override
@@ -92,13 +139,14 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
     }
 
     /**
-     * The total number of vertex and edge, vertexCount and edgeCount is also available.
+     * The number of domain with the same label as repository entity, vertexCount and edgeCount is also available.
+     * For Graph entity, the total number of vertex and edge is returned.
      *
-     * @return
+     * @return the count computed on server side
      */
     @Override
     public long count() {
-        return this.vertexCount() + this.edgeCount();
+        return this.operations.count(this.information.getJavaType());
     }
 
     @Override
@@ -123,7 +171,16 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     @Override
     public void deleteAll(@NonNull Iterable<? extends T> domains) {
-        domains.forEach(this::delete);
+        if (this.information.isEntityGraph()) {
+            domains.forEach(this::delete);
+            return;
+        }
+
+        final List<ID> ids = new ArrayList<>();
+
+        domains.forEach(domain -> ids.add(this.information.getId(domain)));
+
+        this.operations.deleteByIds(ids, this.information.getJavaType());
     }
 
     @Override
@@ -133,7 +190,7 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     @Override
     public boolean existsById(@NonNull ID id) {
-        return this.findById(id).isPresent();
+        return this.operations.existsById(id, this.information.getJavaType());
     }
 }
 
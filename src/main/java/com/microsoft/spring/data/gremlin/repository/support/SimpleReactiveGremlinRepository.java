@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.support;
+
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinOperations;
+import com.microsoft.spring.data.gremlin.repository.ReactiveGremlinRepository;
+import org.reactivestreams.Publisher;
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+public class SimpleReactiveGremlinRepository<T, ID extends Serializable> implements ReactiveGremlinRepository<T, ID> {
+
+    private final ReactiveGremlinOperations operations;
+    private final GremlinEntityInformation<T, ID> information;
+
+    public SimpleReactiveGremlinRepository(GremlinEntityInformation<T, ID> information,
+                                           @NonNull ApplicationContext context) {
+        this(information, context.getBean(ReactiveGremlinOperations.class));
+    }
+
+    public SimpleReactiveGremlinRepository(GremlinEntityInformation<T, ID> information,
+                                           @NonNull ReactiveGremlinOperations operations) {
+        this.information = information;
+        this.operations = operations;
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(@NonNull S domain) {
+        return this.operations.save(domain);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(@NonNull Iterable<S> domains) {
+        return Flux.fromIterable(domains).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(@NonNull Publisher<S> domains) {
+        return Flux.from(domains).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<T> findById(@NonNull ID id) {
+        return this.operations.findById(id, this.information.getJavaType());
+    }
+
+    @Override
+    public Mono<T> findById(@NonNull Publisher<ID> id) {
+        return Mono.from(id).flatMap(i -> this.findById(i));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(@NonNull ID id) {
+        return this.operations.existsById(id, this.information.getJavaType());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(@NonNull Publisher<ID> id) {
+        return Mono.from(id).flatMap(i -> this.existsById(i));
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        if (this.information.isEntityGraph()) {
+            return Flux.error(new UnsupportedOperationException("findAll of Graph is not supported"));
+        }
+
+        return this.operations.findAll(this.information.getJavaType());
+    }
+
+    @Override
+    public Flux<T> findAllById(@NonNull Iterable<ID> ids) {
+        return Flux.fromIterable(ids).concatMap(i -> this.findById(i));
+    }
+
+    @Override
+    public Flux<T> findAllById(@NonNull Publisher<ID> ids) {
+        return Flux.from(ids).concatMap(i -> this.findById(i));
+    }
+
+    @Override
+    public Flux<T> findAll(@NonNull Class<T> domainClass) {
+        return this.operations.findAll(domainClass);
+    }
+
+    @Override
+    public Mono<Long> vertexCount() {
+        return this.operations.vertexCount();
+    }
+
+    @Override
+    public Mono<Long> edgeCount() {
+        return this.operations.edgeCount();
+    }
+
+    /**
+     * The number of domain with the same label as repository entity, vertexCount and edgeCount is also available.
+     * For Graph entity, the total number of vertex and edge is returned.
+     */
+    @Override
+    public Mono<Long> count() {
+        return this.operations.count(this.information.getJavaType());
+    }
+
+    @Override
+    public Mono<Void> deleteById(@NonNull ID id) {
+        return this.operations.deleteById(id, this.information.getJavaType());
+    }
+
+    @Override
+    public Mono<Void> deleteById(@NonNull Publisher<ID> id) {
+        return Mono.from(id).flatMap(i -> this.deleteById(i));
+    }
+
+    @Override
+    public Mono<Void> delete(@NonNull T domain) {
+        return this.operations.deleteById(this.information.getId(domain), domain.getClass());
+    }
+
+    @Override
+    public Mono<Void> deleteAll(@NonNull Iterable<? extends T> domains) {
+        return Flux.fromIterable(domains).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(@NonNull Publisher<? extends T> domains) {
+        return Flux.from(domains).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return this.operations.deleteAll();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(GremlinEntityType type) {
+        return this.operations.deleteAll(type);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(@NonNull Class<T> domainClass) {
+        return this.operations.deleteAll(domainClass);
+    }
+}
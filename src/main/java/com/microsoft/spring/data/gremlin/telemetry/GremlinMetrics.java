@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.telemetry;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * The metrics of GremlinTemplate, recording the time of each operation, the network execution of scripts and the
+ * mapping of results separately. Nothing is recorded by NONE, see MicrometerGremlinMetrics to record by Micrometer.
+ */
+public interface GremlinMetrics {
+
+    GremlinMetrics NONE = new GremlinMetrics() {
+    };
+
+    /**
+     * @param operation   the name of operation, like findById
+     * @param domainClass the domain class of operation, or null for the operation of whole graph like deleteAll()
+     * @param nanos       the time of whole operation, including execution and mapping
+     * @param failed      the operation throws or not
+     */
+    default void recordOperation(@NonNull String operation, @Nullable Class<?> domainClass, long nanos,
+                                 boolean failed) {
+    }
+
+    /**
+     * @param queryList   the scripts submitted to gremlin server one by one
+     * @param resultCount the count of results of all the scripts
+     * @param nanos       the time from submitting the first script to receiving all the results
+     * @param failed      the execution fails or not
+     */
+    default void recordExecution(@NonNull List<String> queryList, int resultCount, long nanos, boolean failed) {
+    }
+
+    /**
+     * @param domainClass the class of mapped domains
+     * @param nanos       the time of mapping results to domains, excluding the execution of scripts in mapping
+     */
+    default void recordMapping(@NonNull Class<?> domainClass, long nanos) {
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.telemetry;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Record the metrics of GremlinTemplate to Micrometer MeterRegistry, which requires io.micrometer:micrometer-core in
+ * classpath. All timers and summaries publish percentile histograms, and the failures are counted by the timers
+ * tagged with outcome=failure. The meters are registered once and cached, then recording adds no registry lookup.
+ * <ul>
+ * <li>gremlin.operation: timer of each operation, tagged by operation, domain and outcome.</li>
+ * <li>gremlin.execution: timer of executing scripts on gremlin server, including the network, tagged by outcome.</li>
+ * <li>gremlin.mapping: timer of mapping results to domains, tagged by domain.</li>
+ * <li>gremlin.script.length: summary of the characters of each submitted script.</li>
+ * <li>gremlin.results: summary of the count of results of each execution.</li>
+ * </ul>
+ */
+public class MicrometerGremlinMetrics implements GremlinMetrics {
+
+    public static final String METRIC_OPERATION = "gremlin.operation";
+    public static final String METRIC_EXECUTION = "gremlin.execution";
+    public static final String METRIC_MAPPING = "gremlin.mapping";
+    public static final String METRIC_SCRIPT_LENGTH = "gremlin.script.length";
+    public static final String METRIC_RESULTS = "gremlin.results";
+
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_DOMAIN = "domain";
+    public static final String TAG_OUTCOME = "outcome";
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final String DOMAIN_NONE = "none";
+
+    private final MeterRegistry registry;
+
+    /**
+     * The timers registered, keyed by the name followed by the tags.
+     */
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+
+    private final DistributionSummary scriptLength;
+
+    private final DistributionSummary results;
+
+    public MicrometerGremlinMetrics(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+        this.scriptLength = this.summary(METRIC_SCRIPT_LENGTH, "characters");
+        this.results = this.summary(METRIC_RESULTS, "results");
+    }
+
+    private static String getOutcome(boolean failed) {
+        return failed ? OUTCOME_FAILURE : OUTCOME_SUCCESS;
+    }
+
+    private static String getDomain(@Nullable Class<?> domainClass) {
+        return domainClass == null ? DOMAIN_NONE : domainClass.getSimpleName();
+    }
+
+    private Timer timer(@NonNull String name, @NonNull String... tags) {
+        final List<String> key = new ArrayList<>(tags.length + 1);
+
+        key.add(name);
+        key.addAll(Arrays.asList(tags));
+
+        return this.timers.computeIfAbsent(key, k -> Timer.builder(name).tags(tags).publishPercentileHistogram()
+                .register(this.registry));
+    }
+
+    private DistributionSummary summary(@NonNull String name, @NonNull String baseUnit) {
+        return DistributionSummary.builder(name).baseUnit(baseUnit).publishPercentileHistogram()
+                .register(this.registry);
+    }
+
+    @Override
+    public void recordOperation(@NonNull String operation, @Nullable Class<?> domainClass, long nanos,
+                                boolean failed) {
+        this.timer(METRIC_OPERATION, TAG_OPERATION, operation, TAG_DOMAIN, getDomain(domainClass),
+                TAG_OUTCOME, getOutcome(failed)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordExecution(@NonNull List<String> queryList, int resultCount, long nanos, boolean failed) {
+        queryList.forEach(query -> this.scriptLength.record(query.length()));
+
+        this.timer(METRIC_EXECUTION, TAG_OUTCOME, getOutcome(failed)).record(nanos, TimeUnit.NANOSECONDS);
+
+        if (!failed) {
+            this.results.record(resultCount);
+        }
+    }
+
+    @Override
+    public void recordMapping(@NonNull Class<?> domainClass, long nanos) {
+        this.timer(METRIC_MAPPING, TAG_DOMAIN, getDomain(domainClass)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
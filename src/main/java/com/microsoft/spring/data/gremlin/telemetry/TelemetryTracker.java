@@ -6,47 +6,157 @@
 package com.microsoft.spring.data.gremlin.telemetry;
 
 import com.microsoft.applicationinsights.TelemetryClient;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 import static com.microsoft.spring.data.gremlin.telemetry.TelemetryProperties.PROPERTY_INSTALLATION_ID;
 import static com.microsoft.spring.data.gremlin.telemetry.TelemetryProperties.PROPERTY_VERSION;
 
-public class TelemetryTracker {
+/**
+ * The events are queued by trackEvent without blocking, and sent in batch with one flush by a background thread
+ * periodically. The events are dropped if the bounded queue is full. The TelemetryClient and the hashed installation
+ * id are created on the background thread only once, then telemetry adds no latency to startup or data operations.
+ */
+public class TelemetryTracker implements DisposableBean {
 
     private static final String PROJECT_VERSION = TelemetryTracker.class.getPackage().getImplementationVersion();
 
     private static final String PROJECT_INFO = "spring-data-gremlin" + "/" + PROJECT_VERSION;
 
+    private static final int QUEUE_CAPACITY = 256;
+
+    private static final long FLUSH_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final Supplier<TelemetryClient> clientSupplier;
+
+    private final BlockingQueue<Event> events;
+
+    private final ScheduledExecutorService flusher;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
     private TelemetryClient client;
 
+    private Map<String, String> defaultProperties;
+
     public TelemetryTracker() {
-        this.client = new TelemetryClient();
+        this(TelemetryClient::new, QUEUE_CAPACITY, FLUSH_INTERVAL_MILLIS);
     }
 
-    public void trackEvent(@NonNull String name, Map<String, String> customProperties) {
-        final Map<String, String> properties;
-        final Map<String, String> defaultProperties = this.getDefaultProperties();
+    TelemetryTracker(@NonNull Supplier<TelemetryClient> clientSupplier, int capacity, long flushIntervalMillis) {
+        this.clientSupplier = clientSupplier;
+        this.events = new ArrayBlockingQueue<>(capacity);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "spring-data-gremlin-telemetry");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
 
-        if (customProperties == null) {
-            properties = defaultProperties;
-        } else {
-            defaultProperties.forEach(customProperties::putIfAbsent);
-            properties = customProperties;
+    /**
+     * Queue the event without blocking, the event is dropped if the queue is full.
+     */
+    public void trackEvent(@NonNull String name, @Nullable Map<String, String> customProperties) {
+        final Map<String, String> properties = customProperties == null ? new HashMap<>() :
+                new HashMap<>(customProperties);
+
+        if (!this.events.offer(new Event(name, properties))) {
+            this.droppedCount.incrementAndGet();
         }
+    }
 
-        client.trackEvent(name, properties, null);
-        client.flush();
+    /**
+     * @return the count of events dropped as the queue is full
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
     }
 
     private Map<String, String> getDefaultProperties() {
-        final Map<String, String> properties = new HashMap<>();
+        if (this.defaultProperties == null) {
+            final Map<String, String> properties = new HashMap<>();
+
+            properties.put(PROPERTY_VERSION, PROJECT_INFO);
+            properties.put(PROPERTY_INSTALLATION_ID, TelemetryUtils.getHashMac());
+
+            this.defaultProperties = properties;
+        }
+
+        return this.defaultProperties;
+    }
+
+    /**
+     * Send all the queued events and flush once. Any failure of telemetry is omitted, the failed events are dropped.
+     */
+    synchronized void flush() {
+        final List<Event> batch = new ArrayList<>();
+
+        this.events.drainTo(batch);
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (this.client == null) {
+                this.client = this.clientSupplier.get();
+            }
+
+            for (final Event event : batch) {
+                final Map<String, String> properties = event.getProperties();
+
+                this.getDefaultProperties().forEach(properties::putIfAbsent);
+                this.client.trackEvent(event.getName(), properties, null);
+            }
+
+            this.client.flush();
+        } catch (RuntimeException e) { // Omit
+            this.droppedCount.addAndGet(batch.size());
+        }
+    }
+
+    /**
+     * Stop the periodic flush, and send the events left in queue.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        this.flusher.shutdown();
+
+        try {
+            this.flusher.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } finally {
+            this.flush();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Event {
 
-        properties.put(PROPERTY_VERSION, PROJECT_INFO);
-        properties.put(PROPERTY_INSTALLATION_ID, TelemetryUtils.getHashMac());
+        private final String name;
 
-        return properties;
+        private final Map<String, String> properties;
     }
 }
@@ -23,6 +23,8 @@ public class TelemetryUtils {
 
     private static final String UNKNOWN_MAC = "unknown-Mac-Address";
 
+    private static volatile String hashMac;
+
     private static String getMacAddress() {
         final InetAddress ip;
         final NetworkInterface network;
@@ -39,7 +41,7 @@ public class TelemetryUtils {
         return Arrays.toString(macBytes);
     }
 
-    public static String getHashMac() {
+    private static String computeHashMac() {
         final String mac = getMacAddress();
 
         if (mac.equals(UNKNOWN_MAC)) {
@@ -49,6 +51,17 @@ public class TelemetryUtils {
         return sha256Hex(mac);
     }
 
+    /**
+     * The lookup of network interface is done only once, the hashed mac is cached.
+     */
+    public static String getHashMac() {
+        if (hashMac == null) {
+            hashMac = computeHashMac();
+        }
+
+        return hashMac;
+    }
+
     public static void telemetryTriggerEvent(TelemetryTracker tracker, @NonNull String eventName,
                                              Map<String, String> properties) {
         if (tracker != null) {
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.benchmark;
+
+import com.microsoft.spring.data.gremlin.annotation.Vertex;
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measure the mapping between a 20 fields vertex domain and GremlinSource, no Gremlin Server is required.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.microsoft.spring.data.gremlin.benchmark.EntityMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    private MappingGremlinConverter converter;
+
+    private WideVertex domain;
+
+    private GremlinSource readSource;
+
+    @Setup
+    @SneakyThrows
+    public void setup() {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        mappingContext.setInitialEntitySet(Collections.singleton(WideVertex.class));
+        mappingContext.initialize();
+
+        this.converter = new MappingGremlinConverter(mappingContext);
+        this.domain = WideVertex.create();
+        this.readSource = new GremlinEntityInformation<>(WideVertex.class).getGremlinSource();
+        this.converter.write(this.domain, this.readSource);
+
+        // The properties read from gremlin server, Date is stored as long and others as json string.
+        this.readSource.setProperty("created", this.domain.getCreated().getTime());
+        this.readSource.setProperty("updated", this.domain.getUpdated().getTime());
+        this.readSource.setProperty("tags", GremlinUtils.getObjectMapper().writeValueAsString(this.domain.getTags()));
+    }
+
+    @Benchmark
+    public GremlinSource write() {
+        final GremlinSource source = new GremlinEntityInformation<>(WideVertex.class).getGremlinSource();
+
+        this.converter.write(this.domain, source);
+
+        return source;
+    }
+
+    @Benchmark
+    public WideVertex read() {
+        return this.converter.read(WideVertex.class, this.readSource);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EntityMappingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @Vertex
+    public static class WideVertex {
+        private String id;
+        private String name;
+        private String title;
+        private String email;
+        private String phone;
+        private String address;
+        private String city;
+        private String country;
+        private int age;
+        private int level;
+        private int score;
+        private int rank;
+        private Integer visits;
+        private Integer likes;
+        private boolean active;
+        private boolean verified;
+        private Boolean admin;
+        private Date created;
+        private Date updated;
+        private List<String> tags;
+
+        static WideVertex create() {
+            final WideVertex vertex = new WideVertex();
+
+            vertex.setId("wide-vertex");
+            vertex.setName("name");
+            vertex.setTitle("title");
+            vertex.setEmail("email@contoso.com");
+            vertex.setPhone("123-456");
+            vertex.setAddress("address");
+            vertex.setCity("city");
+            vertex.setCountry("country");
+            vertex.setAge(30);
+            vertex.setLevel(3);
+            vertex.setScore(100);
+            vertex.setRank(1);
+            vertex.setVisits(1000);
+            vertex.setLikes(10);
+            vertex.setActive(true);
+            vertex.setVerified(false);
+            vertex.setAdmin(true);
+            vertex.setCreated(new Date(1000L));
+            vertex.setUpdated(new Date(2000L));
+            vertex.setTags(Arrays.asList("tag-0", "tag-1", "tag-2"));
+
+            return vertex;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.benchmark;
+
+import com.microsoft.spring.data.gremlin.common.GremlinConfiguration;
+import com.microsoft.spring.data.gremlin.common.GremlinFactory;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.query.GremlinTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compare the latency of inlined scripts and scripts with bindings against a local Gremlin Server.
+ * The server is configured by system properties gremlin.endpoint and gremlin.port, default to localhost:8182.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.microsoft.spring.data.gremlin.benchmark.ScriptBindingsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScriptBindingsBenchmark {
+
+    private static final int PERSON_COUNT = 100;
+
+    @Param({"false", "true"})
+    private boolean scriptBindingsEnabled;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private GremlinFactory factory;
+
+    private GremlinTemplate template;
+
+    @Setup
+    public void setup() {
+        final GremlinConfiguration config = new GremlinConfiguration();
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        config.setEndpoint(System.getProperty("gremlin.endpoint", "localhost"));
+        config.setPort(System.getProperty("gremlin.port", "8182"));
+        config.setUsername(System.getProperty("gremlin.username", ""));
+        config.setPassword(System.getProperty("gremlin.password", ""));
+        config.setSslEnabled(Boolean.getBoolean("gremlin.sslEnabled"));
+        config.setTelemetryAllowed(false);
+        config.setScriptBindingsEnabled(this.scriptBindingsEnabled);
+
+        mappingContext.setInitialEntitySet(Collections.singleton(Person.class));
+        mappingContext.initialize();
+
+        this.factory = new GremlinFactory(config);
+        this.template = new GremlinTemplate(this.factory, new MappingGremlinConverter(mappingContext));
+        this.template.deleteAll();
+
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            this.template.insert(new Person(String.valueOf(i), "person-" + i));
+        }
+    }
+
+    @TearDown
+    public void teardown() {
+        this.template.deleteAll();
+        this.factory.getGremlinCluster().close();
+    }
+
+    @Benchmark
+    public Person findById() {
+        final long id = this.sequence.incrementAndGet() % PERSON_COUNT;
+
+        return this.template.findById(String.valueOf(id), Person.class);
+    }
+
+    @Benchmark
+    public Person insert() {
+        final long id = PERSON_COUNT + this.sequence.incrementAndGet();
+
+        return this.template.insert(new Person(String.valueOf(id), "person-" + id));
+    }
+
+    @Benchmark
+    public Person update() {
+        final long id = this.sequence.incrementAndGet() % PERSON_COUNT;
+
+        return this.template.update(new Person(String.valueOf(id), "updated-" + id));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScriptBindingsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -7,9 +7,12 @@ package com.microsoft.spring.data.gremlin.common;
 
 import com.microsoft.spring.data.gremlin.exception.GremlinIllegalConfigurationException;
 import org.apache.tinkerpop.gremlin.driver.Client;
+import org.apache.tinkerpop.gremlin.driver.Cluster;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+
 public class GremlinFactoryUnitTest {
 
     @Test(expected = GremlinIllegalConfigurationException.class)
@@ -32,4 +35,88 @@ public class GremlinFactoryUnitTest {
         Assert.assertEquals(client.getCluster().getPort(), TestConstants.DEFAULT_ENDPOINT_PORT);
         Assert.assertFalse(client.getSettings().getSession().isPresent());
     }
+
+    private GremlinConfiguration createConfiguration() {
+        final GremlinConfiguration configuration = new GremlinConfiguration();
+
+        configuration.setEndpoint(TestConstants.EMPTY_STRING);
+        configuration.setPort(TestConstants.EMPTY_STRING);
+        configuration.setUsername(TestConstants.EMPTY_STRING);
+        configuration.setPassword(TestConstants.EMPTY_STRING);
+
+        return configuration;
+    }
+
+    @Test
+    public void testGremlinFactoryConnectionPool() {
+        final GremlinConfiguration configuration = this.createConfiguration();
+
+        configuration.setMaxConnectionPoolSize(16);
+        configuration.setMaxInProcessPerConnection(8);
+        configuration.setMaxSimultaneousUsagePerConnection(32);
+        configuration.setNioPoolSize(2);
+        configuration.setWorkerPoolSize(2);
+        configuration.setMaxContentLength(1048576);
+        configuration.setKeepAliveInterval(0L);
+
+        final GremlinFactory factory = new GremlinFactory(configuration);
+        final Cluster cluster = factory.getGremlinClient().getCluster();
+
+        Assert.assertEquals(cluster.maxConnectionPoolSize(), 16);
+        Assert.assertEquals(cluster.getMaxInProcessPerConnection(), 8);
+        Assert.assertEquals(cluster.maxSimultaneousUsagePerConnection(), 32);
+        Assert.assertEquals(cluster.getNioPoolSize(), 2);
+        Assert.assertEquals(cluster.getWorkerPoolSize(), 2);
+        Assert.assertEquals(cluster.getMaxContentLength(), 1048576);
+        Assert.assertEquals(cluster.getKeepAliveInterval(), 0L);
+
+        factory.destroy();
+    }
+
+    @Test(expected = GremlinIllegalConfigurationException.class)
+    public void testGremlinFactoryConnectionPoolException() {
+        final GremlinConfiguration configuration = this.createConfiguration();
+
+        configuration.setMinConnectionPoolSize(8);
+        configuration.setMaxConnectionPoolSize(4);
+
+        new GremlinFactory(configuration).getGremlinClient();
+    }
+
+    @Test
+    public void testGremlinFactorySharedClient() {
+        final GremlinFactory factory = new GremlinFactory(this.createConfiguration());
+        final Client client = factory.getGremlinClient();
+
+        Assert.assertSame(client, factory.getGremlinClient());
+
+        factory.destroy();
+
+        Assert.assertTrue(client.isClosing());
+        Assert.assertTrue(client.getCluster().isClosing());
+        Assert.assertNull(factory.getGremlinCluster());
+    }
+
+    @Test
+    public void testGremlinFactorySerializer() {
+        final GremlinConfiguration configuration = this.createConfiguration();
+
+        configuration.setSerializer("gryo_v1d0");
+
+        final GremlinFactory factory = new GremlinFactory(configuration);
+        final Cluster cluster = factory.getGremlinClient().getCluster();
+
+        Assert.assertTrue(Arrays.asList(cluster.getSerializers()).contains("application/vnd.gremlin-v1.0+gryo"));
+
+        factory.destroy();
+    }
+
+    @Test(expected = GremlinIllegalConfigurationException.class)
+    public void testGremlinFactorySerializerException() {
+        final GremlinConfiguration configuration = this.createConfiguration();
+
+        configuration.setSerializer("unknown");
+
+        new GremlinFactory(configuration).getGremlinClient();
+    }
 }
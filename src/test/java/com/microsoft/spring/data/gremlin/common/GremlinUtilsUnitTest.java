@@ -6,10 +6,13 @@
 package com.microsoft.spring.data.gremlin.common;
 
 import com.microsoft.spring.data.gremlin.common.domain.Service;
+import com.microsoft.spring.data.gremlin.common.domain.ServiceType;
 import com.microsoft.spring.data.gremlin.conversion.source.AbstractGremlinSource;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Date;
+
 public class GremlinUtilsUnitTest {
 
     @Test(expected = IllegalArgumentException.class)
@@ -41,4 +44,25 @@ public class GremlinUtilsUnitTest {
     public void testToPrimitiveLong() {
         Assert.assertEquals((long) 3, GremlinUtils.toPrimitiveLong(new Long(3)));
     }
+
+    @Test
+    public void testToComparableValue() {
+        Assert.assertEquals(GremlinUtils.toStoredValue(3), 3);
+        Assert.assertEquals(GremlinUtils.toStoredValue("name"), "name");
+        Assert.assertEquals(GremlinUtils.toStoredValue(new Date(1000L)), 1000L);
+        Assert.assertEquals(GremlinUtils.toStoredValue(3L), 3L);
+        Assert.assertEquals(GremlinUtils.toStoredValue(1.5D), 1.5D);
+        Assert.assertEquals(GremlinUtils.toStoredValue(ServiceType.BACK_END), "\"BACK_END\"");
+    }
+
+    @Test
+    public void testToNumberLiteral() {
+        Assert.assertEquals(GremlinUtils.toNumberLiteral(3L), "3");
+        Assert.assertEquals(GremlinUtils.toNumberLiteral(1.5D), "1.5");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testToNumberLiteralException() {
+        GremlinUtils.toNumberLiteral(Double.POSITIVE_INFINITY);
+    }
 }
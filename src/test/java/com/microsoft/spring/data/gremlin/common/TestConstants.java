@@ -24,6 +24,9 @@ public class TestConstants {
     public static final String VERTEX_PERSON_LABEL = "label-person";
     public static final String VERTEX_PROJECT_LABEL = "label-project";
     public static final String EDGE_RELATIONSHIP_LABEL = "label-relationship";
+    public static final String EDGE_LAZY_RELATIONSHIP_LABEL = "label-lazy-relationship";
+    public static final String VERTEX_CACHED_PERSON_LABEL = "label-cached-person";
+    public static final String EDGE_CACHED_RELATIONSHIP_LABEL = "label-cached-relationship";
     public static final String GRAPH_ROADMAP_COLLECTION_NAME = "roadmap-collection";
 
     public static final String VERTEX_PERSON_ID = "233333";
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import com.microsoft.spring.data.gremlin.config.AbstractReactiveGremlinConfiguration;
+import com.microsoft.spring.data.gremlin.repository.config.EnableReactiveGremlinRepositories;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.PropertySource;
+
+@EnableReactiveGremlinRepositories
+@PropertySource(value = {"classpath:application.properties"})
+@EnableConfigurationProperties(GremlinConfiguration.class)
+public class TestReactiveRepositoryConfiguration extends AbstractReactiveGremlinConfiguration {
+
+    @Autowired
+    private GremlinConfiguration config;
+
+    public GremlinConfiguration getGremlinConfiguration() {
+        return this.config;
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common.domain;
+
+import lombok.Getter;
+
+@Getter
+public class PersonNameDto {
+
+    private final String name;
+
+    public PersonNameDto(String name) {
+        this.name = name;
+    }
+}
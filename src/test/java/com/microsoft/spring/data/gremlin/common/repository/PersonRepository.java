@@ -6,9 +6,43 @@
 package com.microsoft.spring.data.gremlin.common.repository;
 
 import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.PersonName;
 import com.microsoft.spring.data.gremlin.repository.GremlinRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PersonRepository extends GremlinRepository<Person, String> {
+
+    Person findFirstByOrderByNameAsc();
+
+    List<Person> findTop2ByOrderByNameDesc();
+
+    Page<Person> findByName(String name, Pageable pageable);
+
+    Page<Person> findTop3ByName(String name, Pageable pageable);
+
+    Person queryByName(String name);
+
+    List<PersonName> readByName(String name);
+
+    <T> List<T> getByName(String name, Class<T> type);
+
+    long countByName(String name);
+
+    boolean existsByName(String name);
+
+    long deleteByName(String name);
+
+    List<Person> removeByName(String name);
+
+    List<Person> findByNameIn(Collection<String> names);
+
+    List<Person> findByNameIgnoreCase(String name);
+
+    List<Person> findByNameAllIgnoreCase(String name);
 }
@@ -10,6 +10,7 @@ import com.microsoft.spring.data.gremlin.common.domain.ServiceType;
 import com.microsoft.spring.data.gremlin.repository.GremlinRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -51,4 +52,26 @@ public interface ServiceRepository extends GremlinRepository<Service, String> {
     List<Service> findByCreateAtAfterAndCreateAtBefore(Date startDate, Date endDate);
 
     List<Service> findByCreateAtBetween(Date start, Date end);
+
+    List<Service> findByInstanceCountGreaterThan(int instanceCount);
+
+    List<Service> findByInstanceCountLessThanEqual(int instanceCount);
+
+    List<Service> findByCreateAtGreaterThanEqual(Date createAt);
+
+    List<Service> findByNameIn(Collection<String> names);
+
+    List<Service> findByTypeNotIn(ServiceType... types);
+
+    List<Service> findByNameNot(String name);
+
+    List<Service> findByActiveTrue();
+
+    List<Service> findByActiveFalse();
+
+    List<Service> findByNameStartingWith(String prefix);
+
+    List<Service> findByNameIsNull();
+
+    List<Service> findByNameIsNotNull();
 }
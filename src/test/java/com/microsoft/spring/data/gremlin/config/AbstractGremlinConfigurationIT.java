@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.config;
 
 import com.microsoft.spring.data.gremlin.common.GremlinConfiguration;
 import com.microsoft.spring.data.gremlin.common.TestRepositoryConfiguration;
+import com.microsoft.spring.data.gremlin.query.GremlinTemplate;
 import com.microsoft.spring.data.gremlin.telemetry.TelemetryTracker;
 import lombok.SneakyThrows;
 import org.junit.Assert;
@@ -58,6 +59,14 @@ public class AbstractGremlinConfigurationIT {
         Assert.assertNotNull(this.testConfig.gremlinTemplate(testConfig.gremlinFactory()));
     }
 
+    @Test
+    @SneakyThrows
+    public void testAsyncGremlinTemplate() {
+        final GremlinTemplate template = this.testConfig.gremlinTemplate(testConfig.gremlinFactory());
+
+        Assert.assertNotNull(this.testConfig.asyncGremlinTemplate(template));
+    }
+
     private class TestConfig extends AbstractGremlinConfiguration {
 
         private GremlinConfiguration config;
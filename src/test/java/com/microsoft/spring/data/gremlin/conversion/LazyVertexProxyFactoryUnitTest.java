@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion;
+
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyVertexProxyFactoryUnitTest {
+
+    private final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private Person load(String id) {
+        Assert.assertEquals(id, this.person.getId());
+        this.loadCount.incrementAndGet();
+
+        return this.person;
+    }
+
+    @Test
+    public void testVertexIdWithoutLoad() {
+        final Person proxy = LazyVertexProxyFactory.createProxy(Person.class, this.person.getId(), this::load);
+
+        Assert.assertTrue(proxy instanceof LazyVertexProxy);
+        Assert.assertEquals(((LazyVertexProxy) proxy).getVertexId(), this.person.getId());
+        Assert.assertFalse(((LazyVertexProxy) proxy).isResolved());
+        Assert.assertEquals(this.loadCount.get(), 0);
+    }
+
+    @Test
+    public void testLoadOnFirstAccess() {
+        final Person proxy = LazyVertexProxyFactory.createProxy(Person.class, this.person.getId(), this::load);
+
+        Assert.assertEquals(proxy.getName(), this.person.getName());
+        Assert.assertEquals(proxy.getId(), this.person.getId());
+        Assert.assertEquals(this.person, proxy);
+        Assert.assertTrue(((LazyVertexProxy) proxy).isResolved());
+        Assert.assertSame(((LazyVertexProxy) proxy).getTarget(), this.person);
+        Assert.assertEquals(this.loadCount.get(), 1);
+    }
+
+    @Test(expected = GremlinQueryException.class)
+    public void testLoadNotExistVertex() {
+        final Person proxy = LazyVertexProxyFactory.createProxy(Person.class, this.person.getId(), id -> null);
+
+        proxy.getName();
+    }
+}
@@ -6,10 +6,12 @@
 package com.microsoft.spring.data.gremlin.conversion;
 
 import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.LazyRelationship;
 import com.microsoft.spring.data.gremlin.common.domain.Person;
 import com.microsoft.spring.data.gremlin.common.domain.Project;
 import com.microsoft.spring.data.gremlin.common.domain.Relationship;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -84,5 +86,26 @@ public class MappingGremlinConverterUnitTest {
         Assert.assertEquals(source.getId(), relationship.getId());
         Assert.assertEquals(source.getProperties().get(TestConstants.PROPERTY_NAME), relationship.getName());
     }
-}
 
+    @Test
+    public void testMappingGremlinConverterLazyEdgeWrite() {
+        final Person person = LazyVertexProxyFactory.createProxy(Person.class, TestConstants.VERTEX_PERSON_ID, id -> {
+            throw new IllegalStateException("lazy vertex should not be loaded");
+        });
+        final Project project = new Project(TestConstants.VERTEX_PROJECT_ID, TestConstants.VERTEX_PROJECT_NAME,
+                TestConstants.VERTEX_PROJECT_URI);
+        final LazyRelationship relationship = new LazyRelationship(TestConstants.EDGE_RELATIONSHIP_ID,
+                TestConstants.EDGE_RELATIONSHIP_NAME, person, project);
+        final GremlinEntityInformation<LazyRelationship, String> info =
+                new GremlinEntityInformation<>(LazyRelationship.class);
+        final GremlinSourceEdge source = (GremlinSourceEdge) info.getGremlinSource();
+        final GremlinEntityMappingPlan plan = this.converter.getMappingPlan(LazyRelationship.class);
+
+        this.converter.write(relationship, source);
+
+        Assert.assertTrue(plan.getEdgeFromHandle().isLazy());
+        Assert.assertFalse(plan.getEdgeToHandle().isLazy());
+        Assert.assertEquals(source.getVertexIdFrom(), TestConstants.VERTEX_PERSON_ID);
+        Assert.assertEquals(source.getVertexIdTo(), TestConstants.VERTEX_PROJECT_ID);
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion.result;
+
+import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.javatuples.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class GremlinResultReaderUnitTest {
+
+    private Map<String, Object> createVertexProperty(Object value) {
+        final Map<String, Object> property = new HashMap<>();
+
+        property.put(Constants.PROPERTY_ID, TestConstants.VERTEX_PERSON_0_ID);
+        property.put(Constants.PROPERTY_VALUE, value);
+
+        return property;
+    }
+
+    @Test
+    public void testReadTypedVertex() {
+        final Map<String, Object> properties = new HashMap<>();
+
+        properties.put(TestConstants.PROPERTY_NAME,
+                Collections.singletonList(this.createVertexProperty(TestConstants.VERTEX_PERSON_NAME)));
+
+        final DetachedVertex vertex = new DetachedVertex(TestConstants.VERTEX_PERSON_ID,
+                TestConstants.VERTEX_PERSON_LABEL, properties);
+        final GremlinSource source = new GremlinSourceVertex();
+
+        new GremlinResultVertexReader().read(new Result(vertex), source);
+
+        Assert.assertEquals(source.getId(), TestConstants.VERTEX_PERSON_ID);
+        Assert.assertEquals(source.getLabel(), TestConstants.VERTEX_PERSON_LABEL);
+        Assert.assertEquals(source.getProperties().size(), 1);
+        Assert.assertEquals(source.getProperties().get(TestConstants.PROPERTY_NAME), TestConstants.VERTEX_PERSON_NAME);
+    }
+
+    @Test
+    public void testReadTypedEdge() {
+        final Map<String, Object> properties = new HashMap<>();
+
+        properties.put(TestConstants.PROPERTY_NAME, TestConstants.EDGE_RELATIONSHIP_NAME);
+
+        final DetachedEdge edge = new DetachedEdge(TestConstants.EDGE_RELATIONSHIP_ID,
+                TestConstants.EDGE_RELATIONSHIP_LABEL, properties,
+                Pair.with(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_LABEL),
+                Pair.with(TestConstants.VERTEX_PROJECT_ID, TestConstants.VERTEX_PROJECT_LABEL));
+        final GremlinSourceEdge source = new GremlinSourceEdge();
+
+        new GremlinResultEdgeReader().read(new Result(edge), source);
+
+        Assert.assertEquals(source.getId(), TestConstants.EDGE_RELATIONSHIP_ID);
+        Assert.assertEquals(source.getLabel(), TestConstants.EDGE_RELATIONSHIP_LABEL);
+        Assert.assertEquals(source.getVertexIdFrom(), TestConstants.VERTEX_PERSON_ID);
+        Assert.assertEquals(source.getVertexIdTo(), TestConstants.VERTEX_PROJECT_ID);
+        Assert.assertEquals(source.getProperties().get(TestConstants.PROPERTY_NAME),
+                TestConstants.EDGE_RELATIONSHIP_NAME);
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testReadTypedVertexException() {
+        final DetachedVertex vertex = new DetachedVertex(TestConstants.VERTEX_PERSON_ID,
+                TestConstants.VERTEX_PERSON_LABEL, null);
+
+        new GremlinResultVertexReader().read(new Result(vertex), new GremlinSourceEdge());
+    }
+
+    @Test
+    public void testReadValueMap() {
+        final Map<Object, Object> map = new HashMap<>();
+
+        map.put(T.id, TestConstants.VERTEX_PERSON_ID);
+        map.put(T.label, TestConstants.VERTEX_PERSON_LABEL);
+        map.put(TestConstants.PROPERTY_NAME, Collections.singletonList(TestConstants.VERTEX_PERSON_NAME));
+
+        final GremlinSource source = new GremlinSourceVertex();
+
+        new GremlinResultValueMapReader().read(new Result(map), source);
+
+        Assert.assertEquals(source.getId(), TestConstants.VERTEX_PERSON_ID);
+        Assert.assertEquals(source.getLabel(), TestConstants.VERTEX_PERSON_LABEL);
+        Assert.assertEquals(source.getProperties().size(), 1);
+        Assert.assertEquals(source.getProperties().get(TestConstants.PROPERTY_NAME), TestConstants.VERTEX_PERSON_NAME);
+    }
+}
@@ -19,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -54,7 +56,13 @@ public class GremlinScriptLiteralEdgeUnitTest {
     @Test
     public void testGenerateCountScript() {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateCountScript(gremlinSource);
-        assertEquals(queryList.get(0), "g.E()");
+        assertEquals(queryList.get(0), "g.E().count()");
+    }
+
+    @Test
+    public void testGenerateCountByClassScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateCountByClassScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.E().has(label, 'label-relationship').count()");
     }
 
     @Test
@@ -63,6 +71,12 @@ public class GremlinScriptLiteralEdgeUnitTest {
         assertEquals(queryList.get(0), "g.E('456')");
     }
 
+    @Test
+    public void testGenerateExistsByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateExistsByIdScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.E('456').limit(1).count()");
+    }
+
     @Test
     public void testGenerateFindAllScript() {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateFindAllScript(gremlinSource);
@@ -88,6 +102,20 @@ public class GremlinScriptLiteralEdgeUnitTest {
         assertEquals(queryList.get(0), "g.E('456').drop()");
     }
 
+    @Test
+    public void testGenerateFindByIdsScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateFindByIdsScript(gremlinSource, Arrays.asList("456", "789"));
+        assertEquals(queryList.get(0), "g.E('456', '789')");
+    }
+
+    @Test
+    public void testGenerateDeleteByIdsScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateDeleteByIdsScript(gremlinSource, Arrays.asList("456", "789"));
+        assertEquals(queryList.get(0), "g.E('456', '789').drop()");
+    }
+
     @Test
     public void testGenerateDeleteAllScript() {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateDeleteAllScript(gremlinSource);
@@ -99,4 +127,70 @@ public class GremlinScriptLiteralEdgeUnitTest {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateDeleteAllByClassScript(gremlinSource);
         assertEquals(queryList.get(0), "g.E().has(label, 'label-relationship').drop()");
     }
+
+    @Test
+    public void testGenerateInsertScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateInsertScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.V(vfrom).addE(lbl).to(g.V(vto)).property(id, eid)" +
+                ".property(k0, v0).property(k1, v1)");
+        assertEquals(bindings.size(), 1);
+        assertEquals(bindings.getBindings(0).get("vfrom"), "123");
+        assertEquals(bindings.getBindings(0).get("vto"), "321");
+        assertEquals(bindings.getBindings(0).get("eid"), "456");
+        assertEquals(bindings.getBindings(0).get("lbl"), "label-relationship");
+    }
+
+    @Test
+    public void testGenerateUpdateScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateUpdateScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.E(eid).property(k0, v0).property(k1, v1)");
+        assertEquals(bindings.getBindings(0).get("eid"), "456");
+    }
+
+    @Test
+    public void testGenerateUpsertScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateUpsertScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.E('456').fold().coalesce(unfold()," +
+                " g.V('123').addE('label-relationship').to(g.V('321')).property(id, '456'))" +
+                ".property('name', 'rel-name').property('location', 'null')");
+    }
+
+    @Test
+    public void testGenerateBatchUpsertScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateBatchUpsertScript(Collections.singletonList(gremlinSource));
+
+        assertEquals(queryList.get(0), "g.E('456').fold().coalesce(unfold()," +
+                " g.V('123').addE('label-relationship').to(g.V('321')).property(id, '456'))" +
+                ".property('name', 'rel-name').property('location', 'null').iterate()");
+    }
+
+    @Test
+    public void testGenerateBatchUpsertScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateBatchUpsertScript(Collections.singletonList(gremlinSource));
+
+        assertEquals(queryList.get(0), "g.E(eid0).fold()" +
+                ".coalesce(unfold(), g.V(vfrom0).addE(lbl0).to(g.V(vto0)).property(id, eid0))" +
+                ".property(k0, v0).property(k1, v1).iterate()");
+        assertEquals(bindings.getBindings(0).get("vfrom0"), "123");
+        assertEquals(bindings.getBindings(0).get("vto0"), "321");
+        assertEquals(bindings.getBindings(0).get("eid0"), "456");
+        assertEquals(bindings.getBindings(0).get("lbl0"), "label-relationship");
+    }
 }
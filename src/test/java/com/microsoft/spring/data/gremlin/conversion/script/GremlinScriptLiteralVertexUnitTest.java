@@ -17,6 +17,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -48,7 +49,13 @@ public class GremlinScriptLiteralVertexUnitTest {
     @Test
     public void testGenerateCountScript() {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateCountScript(gremlinSource);
-        assertEquals(queryList.get(0), "g.V()");
+        assertEquals(queryList.get(0), "g.V().count()");
+    }
+
+    @Test
+    public void testGenerateCountByClassScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateCountByClassScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V().has(label, 'label-person').count()");
     }
 
     @Test
@@ -57,6 +64,12 @@ public class GremlinScriptLiteralVertexUnitTest {
         assertEquals(queryList.get(0), "g.V('123')");
     }
 
+    @Test
+    public void testGenerateExistsByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateExistsByIdScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V('123').limit(1).count()");
+    }
+
     @Test
     public void testGenerateFindAllScript() {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateFindAllScript(gremlinSource);
@@ -92,4 +105,145 @@ public class GremlinScriptLiteralVertexUnitTest {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateDeleteAllByClassScript(gremlinSource);
         assertEquals(queryList.get(0), "g.V().has(label, 'label-person').drop()");
     }
+
+    @Test
+    public void testGenerateInsertScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateInsertScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.addV(lbl).property(id, vid).property(k0, v0)");
+        assertEquals(bindings.size(), 1);
+        assertEquals(bindings.getBindings(0).get("lbl"), "label-person");
+        assertEquals(bindings.getBindings(0).get("vid"), "123");
+        assertEquals(bindings.getBindings(0).get("k0"), "name");
+        assertEquals(bindings.getBindings(0).get("v0"), "bill");
+    }
+
+    @Test
+    public void testGenerateFindByIdScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateFindByIdScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.V(vid)");
+        assertEquals(bindings.getBindings(0).get("vid"), "123");
+    }
+
+    @Test
+    public void testGenerateFindAllScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateFindAllScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.V().has(label, lbl)");
+        assertEquals(bindings.getBindings(0).get("lbl"), "label-person");
+    }
+
+    @Test
+    public void testGenerateFindByIdsScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex()
+                .generateFindByIdsScript(gremlinSource, Arrays.asList("123", "456"));
+        assertEquals(queryList.get(0), "g.V('123', '456')");
+    }
+
+    @Test
+    public void testGenerateFindByIdsScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralVertex()
+                .generateFindByIdsScript(gremlinSource, Arrays.asList("123", "456"));
+
+        assertEquals(queryList.get(0), "g.V(vid0, vid1)");
+        assertEquals(bindings.getBindings(0).get("vid0"), "123");
+        assertEquals(bindings.getBindings(0).get("vid1"), "456");
+    }
+
+    @Test
+    public void testGenerateDeleteByIdsScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex()
+                .generateDeleteByIdsScript(gremlinSource, Arrays.asList("123", "456"));
+        assertEquals(queryList.get(0), "g.V('123', '456').drop()");
+    }
+
+    @Test
+    public void testGenerateUpsertScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateUpsertScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V('123').fold()" +
+                ".coalesce(unfold(), addV('label-person').property(id, '123')).property('name', 'bill')");
+    }
+
+    @Test
+    public void testGenerateUpsertScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        gremlinSource.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateUpsertScript(gremlinSource);
+
+        assertEquals(queryList.get(0), "g.V(vid0).fold().coalesce(unfold(), addV(lbl0).property(id, vid0))" +
+                ".property(k0, v0)");
+        assertEquals(bindings.size(), 1);
+        assertEquals(bindings.getBindings(0).get("vid0"), "123");
+        assertEquals(bindings.getBindings(0).get("lbl0"), "label-person");
+    }
+
+    private GremlinSource createPersonSource(String id, String name) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = new GremlinEntityInformation(Person.class);
+        final GremlinSource source = info.getGremlinSource();
+
+        this.converter.write(new Person(id, name), source);
+
+        return source;
+    }
+
+    @Test
+    public void testGenerateBatchUpsertScript() {
+        final List<GremlinSource> sources = Arrays.asList(gremlinSource, this.createPersonSource("456", "tom"));
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateBatchUpsertScript(sources);
+
+        assertEquals(queryList.size(), 1);
+        assertEquals(queryList.get(0), "g.V('123').fold()" +
+                ".coalesce(unfold(), addV('label-person').property(id, '123')).property('name', 'bill').iterate(); " +
+                "g.V('456').fold()" +
+                ".coalesce(unfold(), addV('label-person').property(id, '456')).property('name', 'tom').iterate()");
+    }
+
+    @Test
+    public void testGenerateBatchUpsertScriptWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+        final GremlinSource source = this.createPersonSource("456", "tom");
+
+        gremlinSource.setScriptBindings(bindings);
+        source.setScriptBindings(bindings);
+
+        final List<String> queryList = new GremlinScriptLiteralVertex()
+                .generateBatchUpsertScript(Arrays.asList(gremlinSource, source));
+
+        assertEquals(queryList.get(0), "g.V(vid0).fold().coalesce(unfold(), addV(lbl0).property(id, vid0))" +
+                ".property(k0, v0).iterate(); " +
+                "g.V(vid1).fold().coalesce(unfold(), addV(lbl1).property(id, vid1)).property(k1, v1).iterate()");
+        assertEquals(bindings.size(), 1);
+        assertEquals(bindings.getBindings(0).get("vid0"), "123");
+        assertEquals(bindings.getBindings(0).get("vid1"), "456");
+        assertEquals(bindings.getBindings(0).get("lbl1"), "label-person");
+        assertEquals(bindings.getBindings(0).get("v1"), "tom");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGenerateBatchUpsertScriptWithDifferentBindings() {
+        final GremlinSource source = this.createPersonSource("456", "tom");
+
+        source.setScriptBindings(new GremlinScriptBindings());
+
+        new GremlinScriptLiteralVertex().generateBatchUpsertScript(Arrays.asList(gremlinSource, source));
+    }
 }
@@ -68,6 +68,21 @@ public class GremlinScriptUnitTest {
         new GremlinScriptLiteralGraph().generateCountScript(new GremlinSourceVertex());
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGraphCountByClassException() {
+        new GremlinScriptLiteralGraph().generateCountByClassScript(new GremlinSourceVertex());
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testEdgeCountByClassScriptException() {
+        new GremlinScriptLiteralEdge().generateCountByClassScript(new GremlinSourceVertex());
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testVertexCountByClassScriptException() {
+        new GremlinScriptLiteralVertex().generateCountByClassScript(new GremlinSourceEdge());
+    }
+
     @Test(expected = GremlinUnexpectedSourceTypeException.class)
     public void testEdgeCountScriptException() {
         new GremlinScriptLiteralEdge().generateCountScript(new GremlinSourceVertex());
@@ -103,4 +118,40 @@ public class GremlinScriptUnitTest {
         Assert.assertEquals(source.getProperties().size(), 2);
         Assert.assertNull(source.getProperties().get(fakeName));
     }
+
+    @Test
+    public void testScriptBindingsInSteps() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        Assert.assertEquals(bindings.bindNext("k", "name"), "k0");
+        Assert.assertEquals(bindings.bindNext("k", "age"), "k1");
+        Assert.assertEquals(bindings.bind("vid", "123"), "vid");
+
+        bindings.complete();
+
+        Assert.assertEquals(bindings.bindNext("k", "name"), "k0");
+
+        bindings.complete();
+
+        Assert.assertEquals(bindings.size(), 2);
+        Assert.assertEquals(bindings.getBindings(0).size(), 3);
+        Assert.assertEquals(bindings.getBindings(1).size(), 1);
+        Assert.assertEquals(bindings.getBindings(0).get("k1"), "age");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testScriptBindingsDuplicatedException() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        bindings.bind("vid", "123");
+        bindings.bind("vid", "456");
+    }
+
+    @Test
+    public void testGenerateHasWithBindings() {
+        final GremlinScriptBindings bindings = new GremlinScriptBindings();
+
+        Assert.assertEquals(GremlinScriptLiteralVertex.generateHas("name", "bill", bindings), "has(k0, v0)");
+        Assert.assertEquals(GremlinScriptLiteralVertex.generateHas("name", "bill", null), "has('name', 'bill')");
+    }
 }
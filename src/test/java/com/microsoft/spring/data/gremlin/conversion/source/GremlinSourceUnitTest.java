@@ -5,10 +5,12 @@
  */
 package com.microsoft.spring.data.gremlin.conversion.source;
 
+import com.microsoft.spring.data.gremlin.common.domain.Service;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
 import lombok.SneakyThrows;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -70,4 +72,39 @@ public class GremlinSourceUnitTest {
     public void testGraphAddSourceException() {
         new GremlinSourceGraph().addGremlinSource(new GremlinSourceGraph());
     }
+
+    @Test
+    public void testProjectedVertexRead() {
+        final GremlinSource source = new GremlinSourceVertex();
+
+        source.setId("1234");
+        source.setProperty("name", "name-A");
+
+        final Service service = new GremlinSourceVertexReader(true).read(Service.class, this.converter, source);
+
+        Assert.assertEquals(service.getName(), "name-A");
+        Assert.assertNull(service.getCreateAt());
+    }
+
+    @Test
+    public void testProjectedVertexReadNumberAsJson() {
+        final GremlinSource source = new GremlinSourceVertex();
+
+        source.setId("1234");
+        source.setProperty("instanceCount", "3");
+
+        final Service service = new GremlinSourceVertexReader(true).read(Service.class, this.converter, source);
+
+        Assert.assertEquals(service.getInstanceCount(), 3);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testVertexReadAbsentPropertyException() {
+        final GremlinSource source = new GremlinSourceVertex();
+
+        source.setId("1234");
+        source.setProperty("name", "name-A");
+
+        new GremlinSourceVertexReader().read(Service.class, this.converter, source);
+    }
 }
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.mapping;
+
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.CachedPerson;
+import com.microsoft.spring.data.gremlin.common.domain.Network;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.Project;
+import com.microsoft.spring.data.gremlin.common.domain.Relationship;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class GremlinEntityDescriptorRegistryUnitTest {
+
+    @Before
+    public void setup() {
+        GremlinEntityDescriptorRegistry.clear();
+    }
+
+    private List<String> getFieldNames(List<Field> fields) {
+        return fields.stream().map(Field::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testVertexDescriptor() {
+        final GremlinEntityDescriptor descriptor = GremlinEntityDescriptorRegistry.getDescriptor(Person.class);
+
+        Assert.assertSame(descriptor, GremlinEntityDescriptorRegistry.getDescriptor(Person.class));
+        Assert.assertEquals(descriptor.getEntityType(), GremlinEntityType.VERTEX);
+        Assert.assertEquals(descriptor.getEntityLabel(), TestConstants.VERTEX_PERSON_LABEL);
+        Assert.assertEquals(descriptor.getIdField().getName(), "id");
+        Assert.assertEquals(getFieldNames(descriptor.getPropertyFields()), Arrays.asList("name"));
+        Assert.assertNull(descriptor.getEdgeFromField());
+        Assert.assertNull(descriptor.getEdgeToField());
+        Assert.assertFalse(descriptor.isCacheable());
+        Assert.assertTrue(GremlinEntityDescriptorRegistry.getDescriptor(CachedPerson.class).isCacheable());
+    }
+
+    @Test
+    public void testEdgeDescriptor() {
+        final GremlinEntityDescriptor descriptor = GremlinEntityDescriptorRegistry.getDescriptor(Relationship.class);
+
+        Assert.assertTrue(descriptor.isEntityEdge());
+        Assert.assertEquals(descriptor.getEntityLabel(), TestConstants.EDGE_RELATIONSHIP_LABEL);
+        Assert.assertEquals(getFieldNames(descriptor.getPropertyFields()), Arrays.asList("name", "location"));
+        Assert.assertEquals(descriptor.getEdgeFromField().getName(), "person");
+        Assert.assertEquals(descriptor.getEdgeToField().getName(), "project");
+        Assert.assertFalse(descriptor.isCacheable());
+    }
+
+    @Test
+    public void testGraphDescriptor() {
+        final GremlinEntityDescriptor descriptor = GremlinEntityDescriptorRegistry.getDescriptor(Network.class);
+
+        Assert.assertTrue(descriptor.isEntityGraph());
+        Assert.assertNull(descriptor.getEntityLabel());
+    }
+
+    @Test(expected = GremlinUnexpectedEntityTypeException.class)
+    public void testDescriptorException() {
+        GremlinEntityDescriptorRegistry.getDescriptor(TestNoEntityDomain.class);
+    }
+
+    @Test
+    public void testMappingContextRegister() {
+        final GremlinMappingContext context = new GremlinMappingContext();
+
+        context.setInitialEntitySet(new HashSet<>(Arrays.asList(Person.class, Project.class, String.class)));
+
+        Assert.assertFalse(GremlinEntityDescriptorRegistry.contains(Person.class));
+
+        context.initialize();
+
+        Assert.assertTrue(GremlinEntityDescriptorRegistry.contains(Person.class));
+        Assert.assertTrue(GremlinEntityDescriptorRegistry.contains(Project.class));
+        Assert.assertFalse(GremlinEntityDescriptorRegistry.contains(String.class));
+    }
+
+    private static class TestNoEntityDomain {
+        private String id;
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinConfiguration;
+import com.microsoft.spring.data.gremlin.common.GremlinFactory;
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Network;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.Project;
+import com.microsoft.spring.data.gremlin.common.domain.Relationship;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.query.criteria.Criteria;
+import com.microsoft.spring.data.gremlin.query.criteria.CriteriaType;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import lombok.SneakyThrows;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScanner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.annotation.Persistent;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@PropertySource(value = {"classpath:application.properties"})
+@EnableConfigurationProperties(GremlinConfiguration.class)
+public class AsyncGremlinTemplateIT {
+
+    private static GremlinFactory factory;
+    private final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+    private final Person person0 = new Person(TestConstants.VERTEX_PERSON_0_ID, TestConstants.VERTEX_PERSON_0_NAME);
+    private final Project project = new Project(TestConstants.VERTEX_PROJECT_ID, TestConstants.VERTEX_PROJECT_NAME,
+            TestConstants.VERTEX_PROJECT_URI);
+    private final Relationship relationship = new Relationship(TestConstants.EDGE_RELATIONSHIP_ID,
+            TestConstants.EDGE_RELATIONSHIP_NAME, TestConstants.EDGE_RELATIONSHIP_LOCATION,
+            this.person, this.project);
+    @Autowired
+    private GremlinConfiguration config;
+    @Autowired
+    private ApplicationContext context;
+    private GremlinTemplate template;
+    private AsyncGremlinTemplate asyncTemplate;
+    private ExecutorService executor;
+
+    @AfterClass
+    public static void closeResource() {
+        factory.getGremlinCluster().close();
+    }
+
+    @Before
+    @SneakyThrows
+    public void setup() {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+        factory = new GremlinFactory(this.config);
+
+        mappingContext.setInitialEntitySet(new EntityScanner(this.context).scan(Persistent.class));
+
+        final MappingGremlinConverter converter = new MappingGremlinConverter(mappingContext);
+
+        this.template = new GremlinTemplate(factory, converter);
+        this.executor = Executors.newFixedThreadPool(2);
+        this.asyncTemplate = new AsyncGremlinTemplate(this.template, this.executor);
+        this.template.deleteAll();
+    }
+
+    @After
+    public void cleanup() {
+        this.template.deleteAll();
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void testInsertAndFindByIdAsync() {
+        Assert.assertNull(this.asyncTemplate.findByIdAsync(this.person.getId(), Person.class).join());
+
+        this.asyncTemplate.insertAsync(this.person).join();
+
+        final Person foundPerson = this.asyncTemplate.findByIdAsync(this.person.getId(), Person.class).join();
+
+        Assert.assertEquals(foundPerson, this.person);
+    }
+
+    @Test
+    public void testFindEdgeByIdAsync() {
+        this.asyncTemplate.insertAsync(this.person)
+                .thenCompose(p -> this.asyncTemplate.insertAsync(this.project))
+                .thenCompose(p -> this.asyncTemplate.insertAsync(this.relationship))
+                .join();
+
+        final Relationship found = this.asyncTemplate.findByIdAsync(this.relationship.getId(), Relationship.class)
+                .join();
+
+        Assert.assertNotNull(found);
+        Assert.assertEquals(found.getId(), this.relationship.getId());
+        Assert.assertEquals(found.getPerson(), this.person);
+        Assert.assertEquals(found.getProject(), this.project);
+    }
+
+    @Test
+    public void testSaveAsync() {
+        this.asyncTemplate.saveAsync(this.person).join();
+        Assert.assertEquals(this.template.findById(this.person.getId(), Person.class), this.person);
+
+        final Person updated = new Person(this.person.getId(), TestConstants.VERTEX_PERSON_0_NAME);
+
+        this.asyncTemplate.saveAsync(updated).join();
+        Assert.assertEquals(this.template.findById(this.person.getId(), Person.class), updated);
+    }
+
+    @Test
+    public void testFindAllAsync() {
+        Assert.assertTrue(this.asyncTemplate.findAllAsync(Person.class).join().isEmpty());
+
+        this.template.insert(this.person);
+        this.template.insert(this.person0);
+
+        final List<Person> persons = this.asyncTemplate.findAllAsync(Person.class).join();
+
+        Assert.assertEquals(persons.size(), 2);
+        Assert.assertTrue(persons.contains(this.person));
+        Assert.assertTrue(persons.contains(this.person0));
+    }
+
+    @Test
+    public void testDeleteByIdAsync() {
+        this.template.insert(this.person);
+
+        this.asyncTemplate.deleteByIdAsync(this.person.getId(), Person.class).join();
+
+        Assert.assertNull(this.template.findById(this.person.getId(), Person.class));
+    }
+
+    @Test
+    public void testFindAsync() {
+        this.template.insert(this.person);
+        this.template.insert(this.person0);
+
+        final Criteria criteria = Criteria.getUnaryInstance(CriteriaType.IS_EQUAL, "name",
+                Collections.singletonList(this.person0.getName()));
+        final List<Person> persons = this.asyncTemplate.findAsync(new GremlinQuery(criteria), Person.class).join();
+
+        Assert.assertEquals(persons.size(), 1);
+        Assert.assertEquals(persons.get(0), this.person0);
+    }
+
+    @Test
+    public void testInsertAsyncException() {
+        this.template.insert(this.person);
+
+        try {
+            this.asyncTemplate.insertAsync(new Person(this.person.getId(), this.person.getName())).join();
+            Assert.fail("insert duplicated vertex should fail");
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof GremlinQueryException);
+        }
+    }
+
+    @Test
+    public void testFindAllAsyncGraphException() {
+        try {
+            this.asyncTemplate.findAllAsync(Network.class).join();
+            Assert.fail("findAll of graph should fail");
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof UnsupportedOperationException);
+        }
+    }
+}
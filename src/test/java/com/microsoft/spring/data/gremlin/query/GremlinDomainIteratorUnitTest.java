@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class GremlinDomainIteratorUnitTest {
+
+    private final List<Integer> domains = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    private final List<GremlinQuery> chunks = new ArrayList<>();
+
+    private final Function<GremlinQuery, List<Integer>> finder = query -> {
+        this.chunks.add(query);
+
+        final int start = query.getAfter() == null ? 0 : Integer.parseInt(query.getAfter()) + 1;
+        final int from = (int) Math.min(start + query.getOffset(), this.domains.size());
+        final int to = (int) Math.min(from + query.getLimit(), this.domains.size());
+
+        return this.domains.subList(from, to);
+    };
+
+    private List<Integer> consume(GremlinDomainIterator<Integer> iterator) {
+        final List<Integer> results = new ArrayList<>();
+
+        iterator.forEachRemaining(results::add);
+
+        return results;
+    }
+
+    @Test
+    public void testIterateByChunks() {
+        final GremlinDomainIterator<Integer> iterator = new GremlinDomainIterator<>(new GremlinQuery(), this.finder, 4,
+                null);
+
+        Assert.assertTrue(this.chunks.isEmpty());
+        Assert.assertEquals(this.consume(iterator), this.domains);
+        Assert.assertEquals(this.chunks.size(), 3);
+        Assert.assertEquals(this.chunks.get(2).getOffset(), 8);
+        Assert.assertEquals(this.chunks.get(2).getLimit().intValue(), 4);
+    }
+
+    @Test
+    public void testIterateWithOffsetAndLimit() {
+        final GremlinQuery query = new GremlinQuery().page(PageRequest.of(1, 5));
+        final GremlinDomainIterator<Integer> iterator = new GremlinDomainIterator<>(query, this.finder, 3, null);
+
+        Assert.assertEquals(this.consume(iterator), this.domains.subList(5, 10));
+        Assert.assertEquals(this.chunks.size(), 2);
+        Assert.assertEquals(this.chunks.get(1).getLimit().intValue(), 2);
+    }
+
+    @Test
+    public void testIterateByKeyset() {
+        final GremlinQuery query = new GremlinQuery().slice(2, 7);
+        final GremlinDomainIterator<Integer> iterator = new GremlinDomainIterator<>(query, this.finder, 3,
+                String::valueOf);
+
+        Assert.assertEquals(this.consume(iterator), this.domains.subList(2, 9));
+        Assert.assertEquals(this.chunks.size(), 3);
+        Assert.assertNull(this.chunks.get(0).getAfter());
+        Assert.assertEquals(this.chunks.get(1).getAfter(), "4");
+        Assert.assertEquals(this.chunks.get(1).getOffset(), 0);
+        Assert.assertEquals(this.chunks.get(2).getAfter(), "7");
+        Assert.assertEquals(this.chunks.get(2).getLimit().intValue(), 1);
+    }
+
+    @Test
+    public void testClose() {
+        final GremlinDomainIterator<Integer> iterator = new GremlinDomainIterator<>(new GremlinQuery(), this.finder, 4,
+                null);
+
+        Assert.assertEquals(iterator.next().intValue(), 0);
+
+        iterator.close();
+
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(this.chunks.size(), 1);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextException() {
+        final GremlinDomainIterator<Integer> iterator = new GremlinDomainIterator<>(new GremlinQuery(), q -> {
+            this.chunks.add(q);
+            return new ArrayList<>();
+        }, 4, null);
+
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(this.chunks.size(), 1);
+
+        iterator.next();
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.Project;
+import com.microsoft.spring.data.gremlin.common.domain.Relationship;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+public class GremlinEntityCacheUnitTest {
+
+    private final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+    private final Project project = new Project(TestConstants.VERTEX_PROJECT_ID, TestConstants.VERTEX_PROJECT_NAME,
+            TestConstants.VERTEX_PROJECT_URI);
+    private final Relationship relationship = new Relationship(TestConstants.EDGE_RELATIONSHIP_ID,
+            TestConstants.EDGE_RELATIONSHIP_NAME, TestConstants.EDGE_RELATIONSHIP_LOCATION,
+            this.person, this.project);
+
+    private GremlinEntityCache cache;
+
+    @Before
+    public void setup() {
+        this.cache = new GremlinEntityCache(new ConcurrentMapCacheManager());
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        Assert.assertNull(this.cache.get(Person.class, this.person.getId()));
+
+        this.cache.put(Person.class, this.person.getId(), this.person);
+
+        Assert.assertSame(this.cache.get(Person.class, this.person.getId()), this.person);
+        Assert.assertNull(this.cache.get(Project.class, this.person.getId()));
+        Assert.assertEquals(this.cache.getHitCount(), 1);
+        Assert.assertEquals(this.cache.getMissCount(), 2);
+    }
+
+    @Test
+    public void testEvictAndClear() {
+        this.cache.put(Person.class, this.person.getId(), this.person);
+        this.cache.put(Project.class, this.project.getId(), this.project);
+
+        this.cache.evict(Person.class, this.person.getId());
+        Assert.assertNull(this.cache.get(Person.class, this.person.getId()));
+
+        this.cache.put(Person.class, this.person.getId(), this.person);
+        this.cache.clear(Project.class);
+
+        Assert.assertNull(this.cache.get(Project.class, this.project.getId()));
+        Assert.assertNotNull(this.cache.get(Person.class, this.person.getId()));
+
+        this.cache.clear();
+        Assert.assertNull(this.cache.get(Person.class, this.person.getId()));
+    }
+
+    @Test
+    public void testClearByEntityType() {
+        this.cache.put(Person.class, this.person.getId(), this.person);
+        this.cache.put(Relationship.class, this.relationship.getId(), this.relationship);
+
+        this.cache.clear(GremlinEntityType.EDGE);
+
+        Assert.assertNull(this.cache.get(Relationship.class, this.relationship.getId()));
+        Assert.assertNotNull(this.cache.get(Person.class, this.person.getId()));
+    }
+}
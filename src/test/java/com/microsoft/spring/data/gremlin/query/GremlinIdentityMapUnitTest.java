@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.Project;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GremlinIdentityMapUnitTest {
+
+    private final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+
+    private GremlinIdentityMap identityMap;
+
+    @Before
+    public void setup() {
+        this.identityMap = new GremlinIdentityMap();
+    }
+
+    @Test
+    public void testPutIfAbsent() {
+        Assert.assertNull(this.identityMap.get(Person.class, this.person.getId()));
+        Assert.assertSame(this.identityMap.putIfAbsent(Person.class, this.person.getId(), this.person), this.person);
+
+        final Person duplicated = new Person(this.person.getId(), this.person.getName());
+
+        Assert.assertSame(this.identityMap.putIfAbsent(Person.class, this.person.getId(), duplicated), this.person);
+        Assert.assertSame(this.identityMap.get(Person.class, this.person.getId()), this.person);
+        Assert.assertTrue(this.identityMap.contains(Person.class, this.person.getId()));
+        Assert.assertFalse(this.identityMap.contains(Project.class, this.person.getId()));
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        this.identityMap.putIfAbsent(Person.class, this.person.getId(), this.person);
+        this.identityMap.remove(Person.class, this.person.getId());
+
+        Assert.assertNull(this.identityMap.get(Person.class, this.person.getId()));
+
+        this.identityMap.putIfAbsent(Person.class, this.person.getId(), this.person);
+        this.identityMap.clear();
+
+        Assert.assertFalse(this.identityMap.contains(Person.class, this.person.getId()));
+    }
+}
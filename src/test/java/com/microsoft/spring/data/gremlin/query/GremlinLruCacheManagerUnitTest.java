@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GremlinLruCacheManagerUnitTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        final Cache cache = new GremlinLruCacheManager(2, Duration.ZERO, this.ticker::get).getCache("person");
+
+        cache.put("1", "a");
+        cache.put("2", "b");
+        Assert.assertEquals(cache.get("1", String.class), "a");
+
+        cache.put("3", "c");
+
+        Assert.assertNull(cache.get("2"));
+        Assert.assertEquals(cache.get("1", String.class), "a");
+        Assert.assertEquals(cache.get("3", String.class), "c");
+    }
+
+    @Test
+    public void testExpireAfterTimeToLive() {
+        final Cache cache = new GremlinLruCacheManager(2, Duration.ofNanos(10), this.ticker::get).getCache("person");
+
+        cache.put("1", "a");
+        this.ticker.set(9);
+        Assert.assertEquals(cache.get("1", String.class), "a");
+
+        this.ticker.set(10);
+        Assert.assertNull(cache.get("1"));
+    }
+
+    @Test
+    public void testGetWithLoader() {
+        final Cache cache = new GremlinLruCacheManager(2, Duration.ZERO).getCache("person");
+
+        Assert.assertEquals(cache.get("1", () -> "a"), "a");
+        Assert.assertEquals(cache.get("1", () -> "b"), "a");
+
+        cache.evict("1");
+        Assert.assertEquals(cache.get("1", () -> "b"), "b");
+
+        cache.clear();
+        Assert.assertNull(cache.get("1"));
+    }
+
+    @Test
+    public void testCacheNames() {
+        final GremlinLruCacheManager manager = new GremlinLruCacheManager(2, Duration.ZERO);
+
+        Assert.assertSame(manager.getCache("person"), manager.getCache("person"));
+        Assert.assertEquals(manager.getCacheNames(), Collections.singleton("person"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxSize() {
+        new GremlinLruCacheManager(0, Duration.ZERO);
+    }
+}
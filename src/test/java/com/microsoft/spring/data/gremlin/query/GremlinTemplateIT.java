@@ -15,6 +15,11 @@ import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationExcep
 import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.telemetry.GremlinMetrics;
+import com.microsoft.spring.data.gremlin.telemetry.MicrometerGremlinMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.junit.*;
 import org.junit.runner.RunWith;
@@ -24,8 +29,10 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.annotation.Persistent;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -254,6 +261,12 @@ public class GremlinTemplateIT {
         this.template.update(this.person);
     }
 
+    @Test(expected = GremlinQueryException.class)
+    public void testSaveEdgeException() {
+        this.template.insert(this.person);
+        this.template.save(this.relationship);
+    }
+
     @Test(expected = GremlinUnexpectedEntityTypeException.class)
     public void testDeleteAllByTypeException() {
         this.template.deleteAll(GremlinEntityType.UNKNOWN);
@@ -520,6 +533,51 @@ public class GremlinTemplateIT {
         Assert.assertFalse(this.template.isEmptyGraph(this.network));
     }
 
+    @Test
+    public void testCount() {
+        Assert.assertEquals(this.template.vertexCount(), 0);
+        Assert.assertEquals(this.template.edgeCount(), 0);
+
+        this.buildTestGraph();
+
+        Assert.assertEquals(this.template.vertexCount(), 5);
+        Assert.assertEquals(this.template.edgeCount(), 4);
+        Assert.assertEquals(this.template.count(Person.class), 3);
+        Assert.assertEquals(this.template.count(Project.class), 2);
+        Assert.assertEquals(this.template.count(Relationship.class), 4);
+        Assert.assertEquals(this.template.count(Network.class), 9);
+    }
+
+    @Test
+    public void testSaveAll() {
+        final Person updatedPerson = new Person(this.person.getId(), TestConstants.VERTEX_PERSON_1_NAME);
+
+        this.template.insert(this.person);
+        factory.getConfiguration().setBatchSize(2);
+
+        final List<Object> domains = this.template.saveAll(Arrays.asList(updatedPerson, this.person0, this.project,
+                this.relationship, this.relationship0));
+
+        Assert.assertEquals(domains.size(), 5);
+        Assert.assertEquals(this.template.findById(this.person.getId(), Person.class), updatedPerson);
+        Assert.assertEquals(this.template.findById(this.person0.getId(), Person.class), this.person0);
+        Assert.assertEquals(this.template.findById(this.project.getId(), Project.class), this.project);
+        Assert.assertEquals(this.template.vertexCount(), 3);
+        Assert.assertEquals(this.template.edgeCount(), 2);
+
+        final Relationship foundRelationship = this.template.findById(this.relationship0.getId(),
+                Relationship.class);
+
+        Assert.assertNotNull(foundRelationship);
+        Assert.assertEquals(foundRelationship.getName(), this.relationship0.getName());
+        Assert.assertEquals(foundRelationship.getPerson(), this.person0);
+
+        this.template.saveAll(Arrays.asList(this.relationship0, this.person0));
+
+        Assert.assertEquals(this.template.vertexCount(), 3);
+        Assert.assertEquals(this.template.edgeCount(), 2);
+    }
+
     @Test(expected = GremlinQueryException.class)
     public void testIsEmptyGraphException() {
         this.template.isEmptyGraph(this.project);
@@ -536,5 +594,148 @@ public class GremlinTemplateIT {
 
         this.template.findById(dependency.getId(), InvalidDependency.class);
     }
-}
 
+    @Test
+    public void testDeleteByQueryInChunks() {
+        this.buildTestGraph();
+        this.config.setDeleteChunkSize(1);
+
+        final GremlinFactory chunkFactory = new GremlinFactory(this.config);
+        final GremlinTemplate chunkTemplate = new GremlinTemplate(chunkFactory, this.template.getMappingConverter());
+
+        try {
+            Assert.assertEquals(chunkTemplate.delete(new GremlinQuery(), Person.class), 3);
+            Assert.assertTrue(this.template.findAll(Person.class).isEmpty());
+            Assert.assertEquals(this.template.findAll(Project.class).size(), 2);
+        } finally {
+            this.config.setDeleteChunkSize(0);
+            chunkFactory.getGremlinCluster().close();
+        }
+    }
+
+    @Test
+    public void testEntityCache() {
+        final GremlinEntityCache cache = new GremlinEntityCache(new GremlinLruCacheManager(10, Duration.ZERO));
+        final GremlinTemplate cachedTemplate = new GremlinTemplate(factory, this.template.getMappingConverter(), cache);
+        final CachedPerson person = new CachedPerson(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+
+        cachedTemplate.insert(person);
+
+        final CachedPerson found = cachedTemplate.findById(person.getId(), CachedPerson.class);
+
+        Assert.assertSame(cachedTemplate.findById(person.getId(), CachedPerson.class), found);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitCount(), 1);
+
+        final CachedPerson updated = new CachedPerson(person.getId(), TestConstants.VERTEX_PERSON_0_NAME);
+
+        cachedTemplate.save(updated);
+        Assert.assertEquals(cachedTemplate.findById(person.getId(), CachedPerson.class), updated);
+
+        cachedTemplate.deleteById(person.getId(), CachedPerson.class);
+        Assert.assertNull(cachedTemplate.findById(person.getId(), CachedPerson.class));
+    }
+
+    @Test
+    public void testEntityCacheEdgeOfUpdatedVertex() {
+        final GremlinEntityCache cache = new GremlinEntityCache(new GremlinLruCacheManager(10, Duration.ZERO));
+        final GremlinTemplate cachedTemplate = new GremlinTemplate(factory, this.template.getMappingConverter(), cache);
+        final CachedPerson person = new CachedPerson(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+        final CachedRelationship relationship = new CachedRelationship(TestConstants.EDGE_RELATIONSHIP_ID,
+                TestConstants.EDGE_RELATIONSHIP_NAME, person, this.project);
+
+        cachedTemplate.insert(person);
+        cachedTemplate.insert(this.project);
+        cachedTemplate.insert(relationship);
+        cachedTemplate.findById(relationship.getId(), CachedRelationship.class);
+
+        final CachedPerson updated = new CachedPerson(person.getId(), TestConstants.VERTEX_PERSON_0_NAME);
+
+        cachedTemplate.save(updated);
+
+        final CachedRelationship found = cachedTemplate.findById(relationship.getId(), CachedRelationship.class);
+
+        Assert.assertEquals(found.getPerson(), updated);
+    }
+
+    @Test
+    public void testIterateKeepsQuery() {
+        this.template.insert(this.person);
+
+        final GremlinQuery query = new GremlinQuery();
+
+        try (CloseableIterator<Person> iterator = this.template.iterate(query, Person.class)) {
+            Assert.assertEquals(iterator.next(), this.person);
+        }
+
+        Assert.assertTrue(query.getSort().isUnsorted());
+    }
+
+    @Test
+    public void testWithIdentityMap() {
+        this.template.insert(this.person);
+        this.template.insert(this.project);
+        this.template.insert(this.relationship);
+        this.template.insert(this.relationship2);
+
+        final List<Relationship> relationships = this.template.findAll(Relationship.class);
+
+        Assert.assertEquals(relationships.size(), 2);
+        Assert.assertSame(relationships.get(0).getPerson(), relationships.get(1).getPerson());
+
+        Assert.assertNotSame(this.template.findById(this.person.getId(), Person.class),
+                this.template.findById(this.person.getId(), Person.class));
+
+        this.template.withIdentityMap(() -> {
+            final Person found = this.template.findById(this.person.getId(), Person.class);
+            final Relationship foundRelationship = this.template.findById(this.relationship.getId(),
+                    Relationship.class);
+
+            Assert.assertSame(this.template.findById(this.person.getId(), Person.class), found);
+            Assert.assertSame(this.template.findAll(Person.class).get(0), found);
+            Assert.assertSame(foundRelationship.getPerson(), found);
+
+            final Person updated = new Person(this.person.getId(), TestConstants.VERTEX_PERSON_0_NAME);
+
+            this.template.save(updated);
+            Assert.assertEquals(this.template.findById(this.person.getId(), Person.class), updated);
+
+            return null;
+        });
+    }
+
+    @Test
+    public void testMetrics() {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+
+        this.template.setMetrics(new MicrometerGremlinMetrics(registry));
+
+        try {
+            this.template.insert(this.person);
+            this.template.findById(this.person.getId(), Person.class);
+
+            Assert.assertEquals(registry.find(MicrometerGremlinMetrics.METRIC_OPERATION)
+                    .tags(MicrometerGremlinMetrics.TAG_OPERATION, "findById").timer().count(), 1);
+            Assert.assertEquals(registry.find(MicrometerGremlinMetrics.METRIC_EXECUTION).timer().count(), 2);
+            Assert.assertEquals(registry.find(MicrometerGremlinMetrics.METRIC_MAPPING).timer().count(), 1);
+
+            this.template.existsById(this.person.getId(), Person.class);
+            this.template.vertexCount();
+
+            Assert.assertEquals(registry.find(MicrometerGremlinMetrics.METRIC_OPERATION)
+                    .tags(MicrometerGremlinMetrics.TAG_OPERATION, "existsById").timer().count(), 1);
+            Assert.assertEquals(registry.find(MicrometerGremlinMetrics.METRIC_OPERATION)
+                    .tags(MicrometerGremlinMetrics.TAG_OPERATION, "vertexCount").timer().count(), 1);
+
+            try {
+                this.template.insert(this.person);
+                Assert.fail("insert duplicated vertex should fail");
+            } catch (GremlinQueryException e) {
+                Assert.assertEquals(registry.find(MicrometerGremlinMetrics.METRIC_OPERATION)
+                        .tags(MicrometerGremlinMetrics.TAG_OUTCOME, "failure").timer().count(), 1);
+            }
+        } finally {
+            this.template.setMetrics(GremlinMetrics.NONE);
+        }
+    }
+}
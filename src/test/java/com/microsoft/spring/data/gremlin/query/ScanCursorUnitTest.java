@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import lombok.SneakyThrows;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+public class ScanCursorUnitTest {
+
+    @Test
+    public void testToken() {
+        final ScanCursor cursor = ScanCursor.after("person/0?");
+        final String token = cursor.toToken();
+
+        Assert.assertFalse(cursor.isStart());
+        Assert.assertEquals(ScanCursor.fromToken(token), cursor);
+        Assert.assertEquals(ScanCursor.fromToken(token).getLastId(), "person/0?");
+    }
+
+    @Test
+    public void testStartToken() {
+        Assert.assertTrue(ScanCursor.start().isStart());
+        Assert.assertEquals(ScanCursor.start().toToken(), "");
+        Assert.assertEquals(ScanCursor.fromToken(""), ScanCursor.start());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTokenException() {
+        ScanCursor.fromToken("not a token");
+    }
+
+    @Test
+    @SneakyThrows
+    public void testSerializable() {
+        final ScanCursor cursor = ScanCursor.after("233333");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(cursor);
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertEquals(input.readObject(), cursor);
+        }
+    }
+
+    @Test
+    public void testScanSlice() {
+        final ScanSlice<String> slice = new ScanSlice<>(Arrays.asList("a", "b"), ScanCursor.after("b"), true);
+
+        Assert.assertTrue(slice.hasNext());
+        Assert.assertEquals(slice.getNumberOfElements(), 2);
+        Assert.assertEquals(slice.getCursor().getLastId(), "b");
+        Assert.assertTrue(slice.nextPageable().isUnpaged());
+    }
+}
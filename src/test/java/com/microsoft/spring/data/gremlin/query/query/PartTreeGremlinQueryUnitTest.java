@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.PersonName;
+import com.microsoft.spring.data.gremlin.common.domain.PersonNameDto;
+import com.microsoft.spring.data.gremlin.common.repository.PersonRepository;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.query.GremlinOperations;
+import com.microsoft.spring.data.gremlin.query.criteria.Criteria;
+import com.microsoft.spring.data.gremlin.query.criteria.CriteriaType;
+import lombok.SneakyThrows;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PartTreeGremlinQueryUnitTest {
+
+    private final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+
+    @Mock
+    private GremlinOperations operations;
+
+    @Before
+    public void setup() {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        mappingContext.getPersistentEntity(Person.class);
+
+        Mockito.when(this.operations.getMappingConverter()).thenReturn(new MappingGremlinConverter(mappingContext));
+        Mockito.when(this.operations.find(Mockito.any(), Mockito.eq(Person.class)))
+                .thenReturn(Collections.singletonList(this.person));
+    }
+
+    @SneakyThrows
+    private PartTreeGremlinQuery createQuery(String name, Class<?>... parameterTypes) {
+        final GremlinQueryMethod method = new GremlinQueryMethod(PersonRepository.class.getMethod(name, parameterTypes),
+                new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory());
+
+        return new PartTreeGremlinQuery(method, this.operations);
+    }
+
+    private GremlinQuery captureQuery() {
+        final ArgumentCaptor<GremlinQuery> captor = ArgumentCaptor.forClass(GremlinQuery.class);
+
+        Mockito.verify(this.operations).find(captor.capture(), Mockito.eq(Person.class));
+
+        return captor.getValue();
+    }
+
+    @Test
+    public void testInterfaceProjection() {
+        final Object result = this.createQuery("readByName", String.class).execute(new Object[]{"name"});
+
+        Assert.assertTrue(result instanceof List);
+        Assert.assertEquals(((List<?>) result).size(), 1);
+
+        final PersonName name = (PersonName) ((List<?>) result).get(0);
+
+        Assert.assertEquals(name.getName(), this.person.getName());
+        Assert.assertEquals(this.captureQuery().getProjection(), Collections.singletonList("name"));
+    }
+
+    @Test
+    public void testDtoProjection() {
+        final PartTreeGremlinQuery query = this.createQuery("getByName", String.class, Class.class);
+        final List<?> result = (List<?>) query.execute(new Object[]{"name", PersonNameDto.class});
+
+        Assert.assertEquals(((PersonNameDto) result.get(0)).getName(), this.person.getName());
+        Assert.assertEquals(this.captureQuery().getProjection(), Collections.singletonList("name"));
+    }
+
+    @Test
+    public void testNoProjection() {
+        final PartTreeGremlinQuery query = this.createQuery("getByName", String.class, Class.class);
+        final List<?> result = (List<?>) query.execute(new Object[]{"name", Person.class});
+
+        Assert.assertEquals(result, Collections.singletonList(this.person));
+        Assert.assertTrue(this.captureQuery().getProjection().isEmpty());
+    }
+
+    @Test
+    public void testCountQuery() {
+        Mockito.when(this.operations.count(Mockito.any(), Mockito.eq(Person.class))).thenReturn(2L);
+
+        Assert.assertEquals(this.createQuery("countByName", String.class).execute(new Object[]{"name"}), 2L);
+        Mockito.verify(this.operations, Mockito.never()).find(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testExistsQuery() {
+        Mockito.when(this.operations.exists(Mockito.any(), Mockito.eq(Person.class))).thenReturn(true);
+
+        Assert.assertEquals(this.createQuery("existsByName", String.class).execute(new Object[]{"name"}), true);
+        Mockito.verify(this.operations, Mockito.never()).find(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testDeleteQuery() {
+        Mockito.when(this.operations.delete(Mockito.any(), Mockito.eq(Person.class))).thenReturn(2L);
+
+        Assert.assertEquals(this.createQuery("deleteByName", String.class).execute(new Object[]{"name"}), 2L);
+        Mockito.verify(this.operations, Mockito.never()).find(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testDeleteQueryReturnsDomains() {
+        final Object result = this.createQuery("removeByName", String.class).execute(new Object[]{"name"});
+
+        final GremlinQuery query = this.captureQuery();
+
+        Assert.assertEquals(result, Collections.singletonList(this.person));
+        Mockito.verify(this.operations).delete(query, Person.class);
+    }
+
+    @Test
+    public void testInCollectionFlattened() {
+        this.createQuery("findByNameIn", Collection.class).execute(new Object[]{Arrays.asList("bill", "tom")});
+
+        final Criteria criteria = this.captureQuery().getCriteria();
+
+        Assert.assertEquals(criteria.getType(), CriteriaType.IN);
+        Assert.assertEquals(criteria.getSubValues(), Arrays.asList("bill", "tom"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIgnoreCaseUnsupported() {
+        this.createQuery("findByNameIgnoreCase", String.class).execute(new Object[]{"bill"});
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAllIgnoreCaseUnsupported() {
+        this.createQuery("findByNameAllIgnoreCase", String.class).execute(new Object[]{"bill"});
+    }
+
+    @Test
+    public void testSingleEntityQuery() {
+        Assert.assertEquals(this.createQuery("queryByName", String.class).execute(new Object[]{"name"}), this.person);
+        Assert.assertEquals(this.captureQuery().getLimit(), Integer.valueOf(2));
+    }
+
+    @Test(expected = IncorrectResultSizeDataAccessException.class)
+    public void testSingleEntityQueryNotUnique() {
+        Mockito.when(this.operations.find(Mockito.any(), Mockito.eq(Person.class)))
+                .thenReturn(Arrays.asList(this.person, this.person));
+
+        this.createQuery("queryByName", String.class).execute(new Object[]{"name"});
+    }
+
+    @Test
+    public void testPagedQueryTotalLimited() {
+        Mockito.when(this.operations.count(Mockito.any(), Mockito.eq(Person.class))).thenReturn(10L);
+
+        final Page<?> page = (Page<?>) this.createQuery("findTop3ByName", String.class, Pageable.class)
+                .execute(new Object[]{"name", PageRequest.of(0, 1)});
+
+        Assert.assertEquals(page.getContent(), Collections.singletonList(this.person));
+        Assert.assertEquals(page.getTotalElements(), 3);
+    }
+}
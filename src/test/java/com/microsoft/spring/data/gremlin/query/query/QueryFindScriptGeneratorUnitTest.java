@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
+import com.microsoft.spring.data.gremlin.query.criteria.Criteria;
+import com.microsoft.spring.data.gremlin.query.criteria.CriteriaType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class QueryFindScriptGeneratorUnitTest {
+
+    private GremlinQuery createQuery() {
+        final Criteria criteria = Criteria.getUnaryInstance(CriteriaType.IS_EQUAL, "name",
+                Collections.singletonList("bill"));
+
+        return new GremlinQuery(criteria);
+    }
+
+    private String generate(GremlinQuery query, QueryScriptGenerator generator) {
+        query.setScriptGenerator(generator);
+
+        final List<String> queryList = query.doSentenceGenerate(Person.class);
+
+        Assert.assertEquals(queryList.size(), 1);
+
+        return queryList.get(0);
+    }
+
+    @Test
+    public void testGenerateFindScript() {
+        final String script = this.generate(this.createQuery(), new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill'))");
+    }
+
+    @Test
+    public void testGenerateFindAllScript() {
+        final String script = this.generate(new GremlinQuery(), new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person')");
+    }
+
+    @Test
+    public void testGenerateSortScript() {
+        final GremlinQuery query = this.createQuery().with(Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id")));
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill'))"
+                + ".order().by('name', decr).by(id, incr)");
+    }
+
+    @Test
+    public void testGenerateLimitScript() {
+        final GremlinQuery query = this.createQuery().limit(10);
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill')).limit(10)");
+    }
+
+    @Test
+    public void testGeneratePageScript() {
+        final GremlinQuery query = new GremlinQuery().page(PageRequest.of(2, 5)).limit(8);
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').range(10, 15)");
+    }
+
+    @Test
+    public void testGenerateScriptWithBindings() {
+        final GremlinQuery query = new GremlinQuery().with(Sort.by("name")).page(PageRequest.of(1, 5));
+
+        query.setScriptBindings(new GremlinScriptBindings());
+
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has(k0, v0).order().by(k1, incr).range(v1, v2)");
+        Assert.assertEquals(query.getScriptBindings().getBindings(0).get("k1"), "name");
+        Assert.assertEquals(query.getScriptBindings().getBindings(0).get("v1"), 5L);
+        Assert.assertEquals(query.getScriptBindings().getBindings(0).get("v2"), 10L);
+    }
+
+    @Test
+    public void testGenerateKeysetScript() {
+        final GremlinQuery query = new GremlinQuery().after("233333").with(Sort.by("id")).limit(11);
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').has(id, gt('233333'))"
+                + ".order().by(id, incr).limit(11)");
+    }
+
+    @Test
+    public void testGenerateProjectionScript() {
+        final GremlinQuery query = this.createQuery().project(Collections.singletonList("name")).limit(1);
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill')).limit(1)"
+                + ".valueMap(true, 'name')");
+    }
+
+    @Test
+    public void testGenerateCountScript() {
+        final GremlinQuery query = this.createQuery().with(Sort.by("name")).page(PageRequest.of(1, 5));
+        final String script = this.generate(query, new QueryCountScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill')).count()");
+    }
+
+    @Test
+    public void testGenerateExistsScript() {
+        final GremlinQuery query = this.createQuery().with(Sort.by("name"));
+        final String script = this.generate(query, new QueryExistsScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill')).limit(1).count()");
+    }
+
+    @Test
+    public void testGenerateDeleteScript() {
+        final String script = this.generate(this.createQuery(), new QueryDeleteScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has('label', 'label-person').where(has('name', 'bill'))"
+                + ".sideEffect(drop()).count()");
+
+        final String limited = this.generate(this.createQuery().limit(100), new QueryDeleteScriptGenerator());
+
+        Assert.assertEquals(limited, "g.V().has('label', 'label-person').where(has('name', 'bill')).limit(100)"
+                + ".sideEffect(drop()).count()");
+    }
+
+    private String generateFind(CriteriaType type, String subject, Object... values) {
+        final Criteria criteria = Criteria.getUnaryInstance(type, subject, Arrays.asList(values));
+
+        return this.generate(new GremlinQuery(criteria), new QueryFindScriptGenerator());
+    }
+
+    @Test
+    public void testGeneratePredicateScript() {
+        Assert.assertEquals(this.generateFind(CriteriaType.GREATER_THAN, "age", 18),
+                "g.V().has('label', 'label-person').where(has('age', gt(18)))");
+        Assert.assertEquals(this.generateFind(CriteriaType.IS_NOT_EQUAL, "name", "bill"),
+                "g.V().has('label', 'label-person').where(has('name', neq('bill')))");
+        Assert.assertEquals(this.generateFind(CriteriaType.IN, "name", "bill", "tom"),
+                "g.V().has('label', 'label-person').where(has('name', within('bill', 'tom')))");
+        Assert.assertEquals(this.generateFind(CriteriaType.CONTAINING, "name", "il"),
+                "g.V().has('label', 'label-person').where(has('name', TextP.containing('il')))");
+    }
+
+    @Test
+    public void testGenerateStartingWithScript() {
+        Assert.assertEquals(this.generateFind(CriteriaType.STARTING_WITH, "name", "bi"),
+                "g.V().has('label', 'label-person').where(has('name', between('bi', 'bj')))");
+        Assert.assertEquals(this.generateFind(CriteriaType.STARTING_WITH, "name", ""),
+                "g.V().has('label', 'label-person').where(has('name'))");
+    }
+
+    @Test
+    public void testGenerateBooleanAndNullScript() {
+        Assert.assertEquals(this.generateFind(CriteriaType.IS_FALSE, "active"),
+                "g.V().has('label', 'label-person').where(has('active', false))");
+        Assert.assertEquals(this.generateFind(CriteriaType.IS_NOT_NULL, "name"),
+                "g.V().has('label', 'label-person').where(has('name', neq('null')))");
+        Assert.assertEquals(this.generateFind(CriteriaType.IS_NULL, "name"),
+                "g.V().has('label', 'label-person').where(where(hasNot('name')).or().where(has('name', 'null')))");
+    }
+
+    @Test
+    public void testGeneratePredicateScriptWithBindings() {
+        final Criteria criteria = Criteria.getUnaryInstance(CriteriaType.LESS_THAN_EQUAL, "age",
+                Collections.singletonList(18));
+        final GremlinQuery query = new GremlinQuery(criteria);
+
+        query.setScriptBindings(new GremlinScriptBindings());
+
+        final String script = this.generate(query, new QueryFindScriptGenerator());
+
+        Assert.assertEquals(script, "g.V().has(k0, v0).where(has(k1, lte(v1)))");
+        Assert.assertEquals(query.getScriptBindings().getBindings(0).get("k1"), "age");
+        Assert.assertEquals(query.getScriptBindings().getBindings(0).get("v1"), 18);
+    }
+
+    @Test
+    public void testGenerateRangeScript() {
+        Assert.assertEquals(this.generateFind(CriteriaType.GREATER_THAN, "age", 9L),
+                "g.V().has('label', 'label-person').where(has('age', gt(9)))");
+        Assert.assertEquals(this.generateFind(CriteriaType.LESS_THAN, "age", 1.5D),
+                "g.V().has('label', 'label-person').where(has('age', lt(1.5)))");
+        Assert.assertEquals(this.generateFind(CriteriaType.BETWEEN, "age", 1L, 9L),
+                "g.V().has('label', 'label-person').where(has('age', between(1, 9)))");
+        Assert.assertEquals(this.generateFind(CriteriaType.BETWEEN, "name", "a", "m"),
+                "g.V().has('label', 'label-person').where(has('name', between('a', 'm')))");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGenerateRangeScriptException() {
+        this.generateFind(CriteriaType.GREATER_THAN, "age", Double.NaN);
+    }
+
+    @Test
+    public void testCopyQuery() {
+        final GremlinQuery query = this.createQuery().with(Sort.by("name")).page(PageRequest.of(1, 5));
+        final GremlinQuery copy = query.copy();
+
+        Assert.assertEquals(this.generate(copy, new QueryFindScriptGenerator()),
+                this.generate(query, new QueryFindScriptGenerator()));
+
+        copy.with(Sort.by("id")).limit(1);
+
+        Assert.assertEquals(query.getSort(), Sort.by("name"));
+        Assert.assertEquals(query.getLimit(), Integer.valueOf(5));
+    }
+}
@@ -9,9 +9,13 @@ import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
 import com.microsoft.spring.data.gremlin.common.TestConstants;
 import com.microsoft.spring.data.gremlin.common.TestRepositoryConfiguration;
 import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.PersonName;
+import com.microsoft.spring.data.gremlin.common.domain.PersonNameDto;
 import com.microsoft.spring.data.gremlin.common.domain.Project;
 import com.microsoft.spring.data.gremlin.common.repository.PersonRepository;
 import com.microsoft.spring.data.gremlin.common.repository.ProjectRepository;
+import com.microsoft.spring.data.gremlin.query.ScanCursor;
+import com.microsoft.spring.data.gremlin.query.ScanSlice;
 import org.assertj.core.util.Lists;
 import org.junit.After;
 import org.junit.Assert;
@@ -19,12 +23,18 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(classes = TestRepositoryConfiguration.class)
@@ -231,5 +241,116 @@ public class PersonRepositoryIT {
         this.repository.deleteAll();
         Assert.assertFalse(this.repository.findAll().iterator().hasNext());
     }
-}
 
+    @Test
+    public void testFindAllSortAndPage() {
+        final Person person1 = new Person(TestConstants.VERTEX_PERSON_1_ID, TestConstants.VERTEX_PERSON_1_NAME);
+
+        this.repository.saveAll(Arrays.asList(this.person, this.person0, person1));
+
+        final List<Person> sorted = Lists.newArrayList(this.repository.findAll(Sort.by(Sort.Order.desc("id"))));
+
+        Assert.assertEquals(sorted, Arrays.asList(this.person, person1, this.person0));
+
+        final Page<Person> page = this.repository.findAll(PageRequest.of(1, 2, Sort.by("id")));
+
+        Assert.assertEquals(page.getContent(), Collections.singletonList(this.person));
+        Assert.assertEquals(page.getTotalElements(), 3);
+        Assert.assertEquals(page.getTotalPages(), 2);
+    }
+
+    @Test
+    public void testFindTopAndFirst() {
+        final Person person1 = new Person(TestConstants.VERTEX_PERSON_1_ID, TestConstants.VERTEX_PERSON_1_NAME);
+
+        Assert.assertNull(this.repository.findFirstByOrderByNameAsc());
+
+        this.repository.saveAll(Arrays.asList(this.person, this.person0, person1));
+
+        Assert.assertEquals(this.repository.findFirstByOrderByNameAsc(), this.person);
+        Assert.assertEquals(this.repository.findTop2ByOrderByNameDesc(), Arrays.asList(person1, this.person0));
+    }
+
+    @Test
+    public void testFindByNamePage() {
+        final Person person1 = new Person(TestConstants.VERTEX_PERSON_1_ID, this.person.getName());
+
+        this.repository.saveAll(Arrays.asList(this.person, this.person0, person1));
+
+        final PageRequest pageable = PageRequest.of(0, 1, Sort.by("id"));
+        final Page<Person> page = this.repository.findByName(this.person.getName(), pageable);
+
+        Assert.assertEquals(page.getContent(), Collections.singletonList(person1));
+        Assert.assertEquals(page.getTotalElements(), 2);
+        Assert.assertTrue(page.hasNext());
+    }
+
+    @Test
+    public void testStreamAll() {
+        this.repository.saveAll(Arrays.asList(this.person, this.person0));
+
+        try (Stream<Person> stream = this.repository.streamAll()) {
+            Assert.assertEquals(stream.collect(Collectors.toList()), Arrays.asList(this.person0, this.person));
+        }
+    }
+
+    @Test
+    public void testScan() {
+        final Person person1 = new Person(TestConstants.VERTEX_PERSON_1_ID, TestConstants.VERTEX_PERSON_1_NAME);
+
+        this.repository.saveAll(Arrays.asList(this.person, this.person0, person1));
+
+        final ScanSlice<Person> first = this.repository.scan(null, 2);
+
+        Assert.assertEquals(first.getContent(), Arrays.asList(this.person0, person1));
+        Assert.assertTrue(first.hasNext());
+
+        final ScanCursor cursor = ScanCursor.fromToken(first.getCursor().toToken());
+        final ScanSlice<Person> second = this.repository.scan(cursor, 2);
+
+        Assert.assertEquals(second.getContent(), Collections.singletonList(this.person));
+        Assert.assertFalse(second.hasNext());
+        Assert.assertTrue(this.repository.scan(second.getCursor(), 2).getContent().isEmpty());
+    }
+
+    @Test
+    public void testFindProjection() {
+        this.repository.saveAll(Arrays.asList(this.person, this.person0));
+
+        final List<PersonName> names = this.repository.readByName(this.person.getName());
+
+        Assert.assertEquals(names.size(), 1);
+        Assert.assertEquals(names.get(0).getName(), this.person.getName());
+
+        final List<PersonNameDto> dtos = this.repository.getByName(this.person0.getName(), PersonNameDto.class);
+
+        Assert.assertEquals(dtos.size(), 1);
+        Assert.assertEquals(dtos.get(0).getName(), this.person0.getName());
+    }
+
+    @Test
+    public void testCountAndExistsByName() {
+        Assert.assertEquals(this.repository.countByName(this.person.getName()), 0);
+        Assert.assertFalse(this.repository.existsByName(this.person.getName()));
+
+        this.repository.saveAll(Arrays.asList(this.person, this.person0));
+
+        Assert.assertEquals(this.repository.countByName(this.person.getName()), 1);
+        Assert.assertTrue(this.repository.existsByName(this.person.getName()));
+        Assert.assertFalse(this.repository.existsByName("no-such-name"));
+    }
+
+    @Test
+    public void testDeleteByName() {
+        this.repository.saveAll(Arrays.asList(this.person, this.person0));
+
+        Assert.assertEquals(this.repository.deleteByName(this.person.getName()), 1);
+        Assert.assertFalse(this.repository.existsById(this.person.getId()));
+        Assert.assertTrue(this.repository.existsById(this.person0.getId()));
+
+        final List<Person> removed = this.repository.removeByName(this.person0.getName());
+
+        Assert.assertEquals(removed, Collections.singletonList(this.person0));
+        Assert.assertEquals(this.repository.count(), 0);
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository;
+
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.TestReactiveRepositoryConfiguration;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.repository.ReactivePersonRepository;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.core.publisher.Flux;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = TestReactiveRepositoryConfiguration.class)
+public class ReactivePersonRepositoryIT {
+
+    private final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
+    private final Person person0 = new Person(TestConstants.VERTEX_PERSON_0_ID, TestConstants.VERTEX_PERSON_0_NAME);
+
+    @Autowired
+    private ReactivePersonRepository repository;
+
+    @Before
+    public void setup() {
+        this.repository.deleteAll().block();
+    }
+
+    @After
+    public void cleanup() {
+        this.repository.deleteAll().block();
+    }
+
+    @Test
+    public void testSaveAndFindById() {
+        Assert.assertNull(this.repository.findById(this.person.getId()).block());
+
+        this.repository.save(this.person).block();
+
+        Assert.assertEquals(this.repository.findById(this.person.getId()).block(), this.person);
+        Assert.assertTrue(this.repository.existsById(this.person.getId()).block());
+        Assert.assertFalse(this.repository.existsById(this.person0.getId()).block());
+    }
+
+    @Test
+    public void testSaveAllAndFindAll() {
+        final List<Person> persons = Arrays.asList(this.person, this.person0);
+
+        this.repository.saveAll(Flux.fromIterable(persons)).blockLast();
+
+        final List<Person> foundPersons = this.repository.findAll().collectList().block();
+
+        foundPersons.sort(Comparator.comparing(Person::getId));
+        persons.sort(Comparator.comparing(Person::getId));
+
+        Assert.assertEquals(persons, foundPersons);
+        Assert.assertEquals(this.repository.count().block().longValue(), 2);
+        Assert.assertEquals(this.repository.vertexCount().block().longValue(), 2);
+        Assert.assertEquals(this.repository.edgeCount().block().longValue(), 0);
+    }
+
+    @Test
+    public void testDelete() {
+        this.repository.saveAll(Arrays.asList(this.person, this.person0)).blockLast();
+
+        this.repository.delete(this.person).block();
+
+        Assert.assertFalse(this.repository.existsById(this.person.getId()).block());
+        Assert.assertTrue(this.repository.existsById(this.person0.getId()).block());
+
+        this.repository.deleteById(this.person0.getId()).block();
+
+        Assert.assertFalse(this.repository.existsById(this.person0.getId()).block());
+    }
+
+    @Test
+    public void testFindByName() {
+        this.repository.saveAll(Arrays.asList(this.person, this.person0)).blockLast();
+
+        final List<Person> persons = this.repository.findByName(this.person0.getName()).collectList().block();
+
+        Assert.assertEquals(persons.size(), 1);
+        Assert.assertEquals(persons.get(0), this.person0);
+        Assert.assertEquals(this.repository.findOneByName(this.person.getName()).block(), this.person);
+    }
+}
@@ -195,7 +195,9 @@ public class RelationshipRepositoryIT {
         Assert.assertEquals(this.personRepo.vertexCount(), 3);
         Assert.assertEquals(this.projectRepo.vertexCount(), 3);
         Assert.assertEquals(this.relationshipRepo.edgeCount(), 1);
-        Assert.assertEquals(this.relationshipRepo.count(), 4);
+        Assert.assertEquals(this.relationshipRepo.count(), 1);
+        Assert.assertEquals(this.personRepo.count(), 2);
+        Assert.assertEquals(this.projectRepo.count(), 1);
     }
 
     @Test
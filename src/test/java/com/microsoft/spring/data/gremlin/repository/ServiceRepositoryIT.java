@@ -456,5 +456,45 @@ public class ServiceRepositoryIT {
         foundServices = repository.findByCreateAtBetween(startDate, endDate);
         Assert.assertTrue(foundServices.isEmpty());
     }
-}
 
+    @Test
+    public void testFindByComparison() {
+        this.repository.saveAll(Arrays.asList(serviceA, serviceB, serviceC));
+
+        Assert.assertEquals(this.repository.findByInstanceCountGreaterThan(COUNT_A),
+                Collections.singletonList(serviceB));
+        Assert.assertEquals(this.repository.findByInstanceCountLessThanEqual(COUNT_A).size(), 2);
+        Assert.assertEquals(this.repository.findByCreateAtGreaterThanEqual(createDateA).size(), 2);
+        Assert.assertTrue(this.repository.findByCreateAtGreaterThanEqual(new Date()).isEmpty());
+    }
+
+    @Test
+    public void testFindByInAndNot() {
+        this.repository.saveAll(Arrays.asList(serviceA, serviceB, serviceC));
+
+        Assert.assertEquals(this.repository.findByNameIn(Arrays.asList(NAME_A, "unknown")).size(), 2);
+        Assert.assertEquals(this.repository.findByTypeNotIn(BACK_END), Collections.singletonList(serviceA));
+        Assert.assertEquals(this.repository.findByNameNot(NAME_A), Collections.singletonList(serviceB));
+    }
+
+    @Test
+    public void testFindByBooleanAndNull() {
+        final Service unnamed = new Service("unnamed", 1, true, null, FRONT_END, createDateA, PROPERTIES_A);
+
+        this.repository.saveAll(Arrays.asList(serviceA, serviceB, unnamed));
+
+        Assert.assertEquals(this.repository.findByActiveTrue().size(), 2);
+        Assert.assertEquals(this.repository.findByActiveFalse(), Collections.singletonList(serviceB));
+        Assert.assertEquals(this.repository.findByNameIsNull(), Collections.singletonList(unnamed));
+        Assert.assertEquals(this.repository.findByNameIsNotNull().size(), 2);
+    }
+
+    @Test
+    public void testFindByNameStartingWith() {
+        this.repository.saveAll(Arrays.asList(serviceA, serviceB, serviceC));
+
+        Assert.assertEquals(this.repository.findByNameStartingWith("name-").size(), 3);
+        Assert.assertEquals(this.repository.findByNameStartingWith(NAME_B), Collections.singletonList(serviceB));
+        Assert.assertTrue(this.repository.findByNameStartingWith("name-C").isEmpty());
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.config;
+
+import com.microsoft.spring.data.gremlin.common.repository.PersonRepository;
+import com.microsoft.spring.data.gremlin.common.repository.ReactivePersonRepository;
+import com.microsoft.spring.data.gremlin.repository.ReactiveGremlinRepository;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+
+public class ReactiveGremlinRepositoryRegistrarUnitTest {
+
+    private ReactiveGremlinRepositoryRegistrar registrar;
+
+    @Before
+    public void setup() {
+        this.registrar = new ReactiveGremlinRepositoryRegistrar();
+    }
+
+    @Test
+    public void testReactiveGremlinRepositoryRegistrarGetters() {
+        Assert.assertSame(this.registrar.getAnnotation(), EnableReactiveGremlinRepositories.class);
+        Assert.assertTrue(this.registrar.getExtension() instanceof ReactiveGremlinRepositoryConfigurationExtension);
+    }
+
+    @Test
+    public void testReactiveRepositoryConfiguration() {
+        final ReactiveGremlinRepositoryConfigurationExtension extension =
+                new ReactiveGremlinRepositoryConfigurationExtension();
+
+        Assert.assertTrue(extension.getIdentifyingTypes().contains(ReactiveGremlinRepository.class));
+        Assert.assertTrue(extension.useRepositoryConfiguration(
+                AbstractRepositoryMetadata.getMetadata(ReactivePersonRepository.class)));
+        Assert.assertFalse(extension.useRepositoryConfiguration(
+                AbstractRepositoryMetadata.getMetadata(PersonRepository.class)));
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.telemetry;
+
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.microsoft.spring.data.gremlin.telemetry.MicrometerGremlinMetrics.*;
+
+public class MicrometerGremlinMetricsUnitTest {
+
+    private MeterRegistry registry;
+    private MicrometerGremlinMetrics metrics;
+
+    @Before
+    public void setup() {
+        this.registry = new SimpleMeterRegistry();
+        this.metrics = new MicrometerGremlinMetrics(this.registry);
+    }
+
+    @Test
+    public void testRecordOperation() {
+        this.metrics.recordOperation("findById", Person.class, TimeUnit.MILLISECONDS.toNanos(5), false);
+        this.metrics.recordOperation("findById", Person.class, TimeUnit.MILLISECONDS.toNanos(7), true);
+        this.metrics.recordOperation("deleteAll", null, TimeUnit.MILLISECONDS.toNanos(1), false);
+
+        final Timer success = this.registry.find(METRIC_OPERATION).tags(TAG_OPERATION, "findById",
+                TAG_DOMAIN, "Person", TAG_OUTCOME, "success").timer();
+        final Timer failure = this.registry.find(METRIC_OPERATION).tags(TAG_OPERATION, "findById",
+                TAG_DOMAIN, "Person", TAG_OUTCOME, "failure").timer();
+
+        Assert.assertNotNull(success);
+        Assert.assertNotNull(failure);
+        Assert.assertEquals(success.count(), 1);
+        Assert.assertEquals(failure.count(), 1);
+        Assert.assertEquals(success.totalTime(TimeUnit.MILLISECONDS), 5, 0.001);
+        Assert.assertNotNull(this.registry.find(METRIC_OPERATION).tags(TAG_DOMAIN, "none").timer());
+    }
+
+    @Test
+    public void testRecordExecution() {
+        this.metrics.recordExecution(Arrays.asList("g.V()", "g.E().count()"), 3, 100, false);
+        this.metrics.recordExecution(Arrays.asList("g.V()"), 0, 100, true);
+
+        final DistributionSummary scriptLength = this.registry.find(METRIC_SCRIPT_LENGTH).summary();
+        final DistributionSummary results = this.registry.find(METRIC_RESULTS).summary();
+
+        Assert.assertNotNull(scriptLength);
+        Assert.assertEquals(scriptLength.count(), 3);
+        Assert.assertEquals(scriptLength.totalAmount(), 23, 0.001);
+        Assert.assertNotNull(results);
+        Assert.assertEquals(results.count(), 1);
+        Assert.assertEquals(results.totalAmount(), 3, 0.001);
+        Assert.assertEquals(this.registry.find(METRIC_EXECUTION).tags(TAG_OUTCOME, "failure").timer().count(), 1);
+    }
+
+    @Test
+    public void testRecordMapping() {
+        this.metrics.recordMapping(Person.class, 100);
+
+        final Timer mapping = this.registry.find(METRIC_MAPPING).tags(TAG_DOMAIN, "Person").timer();
+
+        Assert.assertNotNull(mapping);
+        Assert.assertEquals(mapping.count(), 1);
+    }
+
+    @Test
+    public void testMetersRegisteredOnce() {
+        this.metrics.recordOperation("findAll", Person.class, 100, false);
+        this.metrics.recordOperation("findAll", Person.class, 100, false);
+        this.metrics.recordMapping(Person.class, 100);
+
+        Assert.assertEquals(this.registry.find(METRIC_OPERATION).meters().size(), 1);
+        Assert.assertEquals(this.registry.find(METRIC_OPERATION).timer().count(), 2);
+        Assert.assertEquals(this.registry.getMeters().size(), 4);
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.telemetry;
+
+import com.microsoft.applicationinsights.TelemetryClient;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.microsoft.spring.data.gremlin.telemetry.TelemetryProperties.PROPERTY_INSTALLATION_ID;
+import static com.microsoft.spring.data.gremlin.telemetry.TelemetryProperties.PROPERTY_SERVICE_NAME;
+import static com.microsoft.spring.data.gremlin.telemetry.TelemetryProperties.PROPERTY_VERSION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TelemetryTrackerUnitTest {
+
+    private static final long NEVER_FLUSH = TimeUnit.HOURS.toMillis(1);
+
+    @Mock
+    private TelemetryClient client;
+
+    private AtomicInteger clientCreated;
+
+    private TelemetryTracker tracker;
+
+    @Before
+    public void setup() {
+        this.clientCreated = new AtomicInteger();
+        this.tracker = new TelemetryTracker(() -> {
+            this.clientCreated.incrementAndGet();
+            return this.client;
+        }, 2, NEVER_FLUSH);
+    }
+
+    @After
+    public void cleanup() throws InterruptedException {
+        this.tracker.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTrackEventInBatch() {
+        this.tracker.trackEvent("event", Collections.singletonMap(PROPERTY_SERVICE_NAME, "gremlin"));
+        this.tracker.trackEvent("event", null);
+
+        Assert.assertEquals(this.clientCreated.get(), 0);
+        verify(this.client, never()).trackEvent(any(), anyMap(), any());
+
+        this.tracker.flush();
+
+        final ArgumentCaptor<Map> captor = ArgumentCaptor.forClass(Map.class);
+
+        verify(this.client, times(2)).trackEvent(eq("event"), captor.capture(), isNull());
+        verify(this.client, times(1)).flush();
+
+        final Map<String, String> properties = captor.getAllValues().get(0);
+
+        Assert.assertEquals(properties.get(PROPERTY_SERVICE_NAME), "gremlin");
+        Assert.assertTrue(properties.containsKey(PROPERTY_VERSION));
+        Assert.assertTrue(properties.containsKey(PROPERTY_INSTALLATION_ID));
+        Assert.assertEquals(this.clientCreated.get(), 1);
+    }
+
+    @Test
+    public void testDropEventWhenQueueFull() {
+        this.tracker.trackEvent("event-0", null);
+        this.tracker.trackEvent("event-1", null);
+        this.tracker.trackEvent("event-2", null);
+
+        Assert.assertEquals(this.tracker.getDroppedCount(), 1);
+
+        this.tracker.flush();
+
+        verify(this.client, times(2)).trackEvent(any(), anyMap(), isNull());
+    }
+
+    @Test
+    public void testFlushFailureOmitted() {
+        doThrow(new IllegalStateException("unavailable")).when(this.client).flush();
+
+        this.tracker.trackEvent("event", null);
+        this.tracker.flush();
+
+        Assert.assertEquals(this.tracker.getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testDestroyFlushesQueuedEvents() throws InterruptedException {
+        this.tracker.trackEvent("event", null);
+        this.tracker.destroy();
+
+        verify(this.client, times(1)).trackEvent(eq("event"), anyMap(), isNull());
+        verify(this.client, times(1)).flush();
+    }
+}